@@ -1,6 +1,6 @@
 import { useState, useEffect } from 'react'
 import { useNavigate } from 'react-router-dom'
-import { useQuery } from '@tanstack/react-query'
+import { useQuery, useQueryClient } from '@tanstack/react-query'
 import {
   Shield,
   LogOut,
@@ -20,9 +20,11 @@ import { Card, CardContent, CardDescription, CardHeader, CardTitle } from '@/com
 import { Button } from '@/components/ui/button'
 import { Badge } from '@/components/ui/badge'
 import type { Location, Reservation } from '@/types'
+import { byNewest, mergeReservation } from '@/lib/utils'
 
 export function AdminDashboardPage() {
   const navigate = useNavigate()
+  const queryClient = useQueryClient()
   const today = new Date().toISOString().split('T')[0]
 
   const [credentials, setCredentials] = useState<{ username: string; password: string } | null>(null)
@@ -47,9 +49,21 @@ export function AdminDashboardPage() {
     queryKey: ['admin-reservations', today],
     queryFn: () => api.getAdminReservations(today, credentials!.username, credentials!.password),
     enabled: !!credentials,
-    refetchInterval: 30000,
+    refetchInterval: 300000, // Fallback only, updates are pushed via SSE
   })
 
+  useEffect(() => {
+    if (!credentials) return
+    return api.subscribeAdminUpdates(credentials.username, credentials.password, (event, data) => {
+      if (event !== 'reservation') return
+      const reservation = data as Reservation
+      if (reservation.reservationDate !== today) return
+      queryClient.setQueryData<Reservation[]>(['admin-reservations', today], (reservations) =>
+        mergeReservation(reservations, reservation, byNewest)
+      )
+    })
+  }, [credentials, queryClient, today])
+
   const handleLogout = () => {
     sessionStorage.removeItem('admin_credentials')
     navigate('/admin/login')
@@ -1,11 +1,12 @@
-import { useQuery } from '@tanstack/react-query'
+import { useEffect } from 'react'
+import { useQuery, useQueryClient } from '@tanstack/react-query'
 import { Link } from 'react-router-dom'
 import { MapPin, Clock, ChevronRight, CalendarDays, Flame } from 'lucide-react'
 import { api } from '@/lib/api'
 import { Card, CardContent, CardDescription, CardHeader, CardTitle } from '@/components/ui/card'
 import { Button } from '@/components/ui/button'
 import { Badge } from '@/components/ui/badge'
-import { AvailabilityStatus } from '@/types'
+import { Availability, AvailabilityStatus } from '@/types'
 import { formatDate, cn } from '@/lib/utils'
 
 function getStatusBadge(status: AvailabilityStatus) {
@@ -30,13 +31,14 @@ function getStatusBadge(status: AvailabilityStatus) {
 export function HomePage() {
   const today = new Date().toISOString().split('T')[0]
 
-  const { data: locationsData, isLoading } = useQuery({
-    queryKey: ['locations', 'today'],
-    queryFn: () => api.getTodayLocations(),
+  // Availability of all locations open today in one request
+  const { data: availabilityData, isLoading } = useQuery({
+    queryKey: ['availability', 'today'],
+    queryFn: () => api.getTodayAvailability(),
     staleTime: 60 * 1000, // 1 minute
   })
 
-  const locations = locationsData?.content ?? []
+  const locations = availabilityData?.content ?? []
   const noLocationsToday = !isLoading && locations.length === 0
 
   return (
@@ -94,8 +96,8 @@ export function HomePage() {
           </Card>
         ) : (
           <div className="grid gap-4 md:grid-cols-2">
-            {locations.map((location) => (
-              <LocationCard key={location.id} locationId={location.id} />
+            {locations.map((availability) => (
+              <LocationCard key={availability.locationId} initial={availability} />
             ))}
           </div>
         )}
@@ -219,13 +221,25 @@ function AvailabilityDisplay({ available, total }: { available: number; total: n
   )
 }
 
-function LocationCard({ locationId }: { locationId: string }) {
+function LocationCard({ initial }: { initial: Availability }) {
+  const locationId = initial.locationId
+  const queryClient = useQueryClient()
   const { data: availability, isLoading } = useQuery({
     queryKey: ['availability', locationId],
     queryFn: () => api.getAvailability(locationId),
-    refetchInterval: 30000, // Refresh every 30 seconds
+    initialData: initial,
+    staleTime: 300000,
+    refetchInterval: 300000, // Fallback only, updates are pushed via SSE
   })
 
+  useEffect(
+    () =>
+      api.subscribeAvailability(locationId, (update) =>
+        queryClient.setQueryData(['availability', locationId], update)
+      ),
+    [locationId, queryClient]
+  )
+
   if (isLoading || !availability) {
     return (
       <Card className="animate-pulse">
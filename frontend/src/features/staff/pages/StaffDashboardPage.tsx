@@ -19,7 +19,7 @@ import { Button } from '@/components/ui/button'
 import { Input } from '@/components/ui/input'
 import { Badge } from '@/components/ui/badge'
 import { Reservation } from '@/types'
-import { formatTime } from '@/lib/utils'
+import { byPickupTime, formatTime, mergeReservation } from '@/lib/utils'
 
 type ToastType = 'success' | 'error'
 
@@ -61,7 +61,7 @@ export function StaffDashboardPage() {
     queryFn: () =>
       api.getInventory(locationId!, credentials!.username, credentials!.password),
     enabled: !!locationId && !!credentials,
-    refetchInterval: 30000,
+    refetchInterval: 300000, // Fallback only, updates are pushed via SSE
   })
 
   const { data: reservations, isLoading: reservationsLoading } = useQuery({
@@ -69,9 +69,24 @@ export function StaffDashboardPage() {
     queryFn: () =>
       api.getStaffReservations(locationId!, today, credentials!.username, credentials!.password),
     enabled: !!locationId && !!credentials,
-    refetchInterval: 15000,
+    refetchInterval: 300000, // Fallback only, updates are pushed via SSE
   })
 
+  useEffect(() => {
+    if (!locationId || !credentials) return
+    return api.subscribeStaffUpdates(locationId, credentials.username, credentials.password, (event, data) => {
+      if (event === 'inventory') {
+        queryClient.setQueryData(['staff-inventory', locationId], data)
+      } else if (event === 'reservation') {
+        const reservation = data as Reservation
+        if (reservation.reservationDate !== today) return
+        queryClient.setQueryData<Reservation[]>(['staff-reservations', locationId, today], (reservations) =>
+          mergeReservation(reservations, reservation, byPickupTime)
+        )
+      }
+    })
+  }, [locationId, credentials, queryClient, today])
+
   const setInventoryMutation = useMutation({
     mutationFn: (total: number) =>
       api.setInventory(locationId!, total, credentials!.username, credentials!.password),
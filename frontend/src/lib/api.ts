@@ -11,7 +11,18 @@ import type {
 
 const API_BASE = '/api/v1'
 
+interface LoginResponse {
+  username: string
+  role: string
+  token: string
+  tokenType: string
+  expiresAt: string
+}
+
 class ApiClient {
+  // Login tokens per user; the password is only sent (and checked by the server) when a new token is needed
+  private tokens = new Map<string, { token: string; expiresAt: number }>()
+
   private async request<T>(
     endpoint: string,
     options: RequestInit = {}
@@ -41,20 +52,41 @@ class ApiClient {
     return response.json()
   }
 
-  private requestWithAuth<T>(
+  private async authorization(username: string, password: string): Promise<string> {
+    const cached = this.tokens.get(username)
+    // Renew one minute before expiry
+    if (cached && cached.expiresAt - Date.now() > 60_000) {
+      return `Bearer ${cached.token}`
+    }
+    const login = await this.request<LoginResponse>('/auth/login', {
+      method: 'POST',
+      body: JSON.stringify({ username, password }),
+    })
+    this.tokens.set(username, { token: login.token, expiresAt: Date.parse(login.expiresAt) })
+    return `Bearer ${login.token}`
+  }
+
+  private async requestWithAuth<T>(
     endpoint: string,
     username: string,
     password: string,
     options: RequestInit = {}
   ): Promise<T> {
-    const credentials = btoa(`${username}:${password}`)
-    return this.request<T>(endpoint, {
-      ...options,
-      headers: {
-        ...options.headers,
-        Authorization: `Basic ${credentials}`,
-      },
-    })
+    const send = async () =>
+      this.request<T>(endpoint, {
+        ...options,
+        headers: {
+          ...options.headers,
+          Authorization: await this.authorization(username, password),
+        },
+      })
+    try {
+      return await send()
+    } catch (error) {
+      // Token no longer accepted (e.g. server secret changed) - log in again once
+      if ((error as ApiError).status !== 401 || !this.tokens.delete(username)) throw error
+      return send()
+    }
   }
 
   // Public endpoints
@@ -79,6 +111,19 @@ class ApiClient {
     return this.request(`/locations/${locationId}/availability${params}`)
   }
 
+  async getTodayAvailability(): Promise<{ content: Availability[] }> {
+    return this.request('/availability/today')
+  }
+
+  // Live availability via Server-Sent Events (reconnects automatically)
+  subscribeAvailability(locationId: string, onUpdate: (availability: Availability) => void): () => void {
+    const source = new EventSource(`${API_BASE}/locations/${locationId}/availability/stream`)
+    source.addEventListener('availability', (event) => {
+      onUpdate(JSON.parse((event as MessageEvent).data))
+    })
+    return () => source.close()
+  }
+
   async createReservation(data: CreateReservationRequest): Promise<Reservation> {
     return this.request('/reservations', {
       method: 'POST',
@@ -141,6 +186,71 @@ class ApiClient {
     )
   }
 
+  // Live reservation/inventory updates via Server-Sent Events.
+  subscribeStaffUpdates(
+    locationId: string,
+    username: string,
+    password: string,
+    onEvent: (event: string, data: unknown) => void
+  ): () => void {
+    return this.subscribeWithAuth(`/staff/reservations/stream?locationId=${locationId}`, username, password, onEvent)
+  }
+
+  // EventSource cannot send the Authorization header, so the stream is read with fetch.
+  private subscribeWithAuth(
+    endpoint: string,
+    username: string,
+    password: string,
+    onEvent: (event: string, data: unknown) => void
+  ): () => void {
+    const controller = new AbortController()
+
+    const connect = async () => {
+      while (!controller.signal.aborted) {
+        try {
+          const response = await fetch(`${API_BASE}${endpoint}`, {
+            headers: { Authorization: await this.authorization(username, password), Accept: 'text/event-stream' },
+            signal: controller.signal,
+          })
+          if (response.status === 401) {
+            this.tokens.delete(username)
+          }
+          if (!response.ok || !response.body) {
+            throw new Error(`HTTP ${response.status}`)
+          }
+          const reader = response.body.pipeThrough(new TextDecoderStream()).getReader()
+          let buffer = ''
+          for (;;) {
+            const { value, done } = await reader.read()
+            if (done) break
+            buffer += value
+            const messages = buffer.split('\n\n')
+            buffer = messages.pop() ?? ''
+            for (const message of messages) {
+              const lines = message.split('\n')
+              const event = lines.find((line) => line.startsWith('event:'))?.slice(6).trim()
+              const data = lines
+                .filter((line) => line.startsWith('data:'))
+                .map((line) => line.slice(5))
+                .join('\n')
+              if (event && data) {
+                onEvent(event, JSON.parse(data))
+              }
+            }
+          }
+        } catch (error) {
+          if (controller.signal.aborted) return
+          console.error('Stream error:', error)
+        }
+        // Reconnect after the server closed the stream or an error occurred
+        await new Promise((resolve) => setTimeout(resolve, 3000))
+      }
+    }
+
+    connect()
+    return () => controller.abort()
+  }
+
   async updateReservationStatus(
     reservationId: string,
     status: string,
@@ -180,6 +290,15 @@ class ApiClient {
     return response.content
   }
 
+  // Live reservation updates of all locations via Server-Sent Events
+  subscribeAdminUpdates(
+    username: string,
+    password: string,
+    onEvent: (event: string, data: unknown) => void
+  ): () => void {
+    return this.subscribeWithAuth('/admin/reservations/stream', username, password, onEvent)
+  }
+
   async createLocation(
     name: string,
     address: string,
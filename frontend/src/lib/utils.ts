@@ -1,5 +1,6 @@
 import { clsx, type ClassValue } from "clsx"
 import { twMerge } from "tailwind-merge"
+import type { Reservation } from "@/types"
 
 export function cn(...inputs: ClassValue[]) {
   return twMerge(clsx(inputs))
@@ -28,3 +29,26 @@ export function formatDateTime(dateTime: string): string {
     minute: '2-digit',
   })
 }
+
+// Insert or replace a pushed reservation in a cached list, keeping the list's order
+export function mergeReservation(
+  reservations: Reservation[] | undefined,
+  reservation: Reservation,
+  compare: (a: Reservation, b: Reservation) => number
+): Reservation[] | undefined {
+  if (!reservations) return reservations
+  return [...reservations.filter((r) => r.id !== reservation.id), reservation].sort(compare)
+}
+
+// Order of the staff list: by pickup time, reservations without pickup time last
+export function byPickupTime(a: Reservation, b: Reservation): number {
+  if (a.pickupTime === b.pickupTime) return 0
+  if (a.pickupTime === null) return 1
+  if (b.pickupTime === null) return -1
+  return a.pickupTime.localeCompare(b.pickupTime)
+}
+
+// Order of the admin list: newest first
+export function byNewest(a: Reservation, b: Reservation): number {
+  return b.createdAt.localeCompare(a.createdAt)
+}
@@ -0,0 +1,175 @@
+package org.example.foodtruckbookingservice.benchmark;
+
+import org.example.foodtruckbookingservice.FoodtruckBookingServiceApplication;
+import org.example.foodtruckbookingservice.entity.DailyInventory;
+import org.example.foodtruckbookingservice.entity.Location;
+import org.example.foodtruckbookingservice.entity.LocationSchedule;
+import org.example.foodtruckbookingservice.entity.ReservationStatus;
+import org.example.foodtruckbookingservice.repository.DailyInventoryRepository;
+import org.example.foodtruckbookingservice.repository.LocationRepository;
+import org.example.foodtruckbookingservice.repository.LocationScheduleRepository;
+import org.example.foodtruckbookingservice.service.TimetableService;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * The application on an embedded H2 (PostgreSQL mode, test configuration) with data at
+ * production scale: {@link #LOCATIONS} locations open every day, inventory for today and
+ * {@link #HISTORICAL_RESERVATIONS} reservations spread over the last year. One more location
+ * is closed every day and one is sold out today, for the rejection paths.
+ * Started once per benchmark fork.
+ */
+@State(Scope.Benchmark)
+public class BenchmarkData {
+
+    static final int LOCATIONS = 7;
+    static final int HISTORICAL_RESERVATIONS = 100_000;
+
+    private static final int INSERT_BATCH_SIZE = 1_000;
+    private static final ReservationStatus[] HISTORICAL_STATUSES = {
+            ReservationStatus.COMPLETED, ReservationStatus.COMPLETED, ReservationStatus.COMPLETED,
+            ReservationStatus.COMPLETED, ReservationStatus.COMPLETED, ReservationStatus.COMPLETED,
+            ReservationStatus.COMPLETED, ReservationStatus.COMPLETED, ReservationStatus.CANCELLED,
+            ReservationStatus.NO_SHOW};
+
+    ConfigurableApplicationContext context;
+    List<UUID> locationIds;
+    UUID closedLocationId;
+    UUID soldOutLocationId;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(FoodtruckBookingServiceApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:jmh;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+                        "logging.level.root=WARN")
+                .run();
+        seed();
+        context.getBean(TimetableService.class).refresh();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    UUID location(int index) {
+        return locationIds.get(index % LOCATIONS);
+    }
+
+    private void seed() {
+        LocationRepository locationRepository = bean(LocationRepository.class);
+        LocationScheduleRepository scheduleRepository = bean(LocationScheduleRepository.class);
+        DailyInventoryRepository inventoryRepository = bean(DailyInventoryRepository.class);
+        LocalDate today = LocalDate.now();
+
+        locationIds = new ArrayList<>();
+        for (int i = 1; i <= LOCATIONS; i++) {
+            Location location = locationRepository.save(Location.builder()
+                    .name("Standort " + i)
+                    .address("Hauptstraße " + i)
+                    .build());
+            for (int day = 1; day <= 7; day++) {
+                scheduleRepository.save(LocationSchedule.builder()
+                        .location(location)
+                        .dayOfWeek(day)
+                        .openingTime(LocalTime.MIN)
+                        .closingTime(LocalTime.MAX)
+                        .dailyCapacity(200)
+                        .build());
+            }
+            // Large enough that the booking benchmark never sells out
+            inventoryRepository.save(DailyInventory.builder()
+                    .location(location)
+                    .date(today)
+                    .totalChickens(Integer.MAX_VALUE / 2)
+                    .build());
+            locationIds.add(location.getId());
+        }
+
+        closedLocationId = locationRepository.save(Location.builder()
+                .name("Standort geschlossen")
+                .address("Nebenstraße 1")
+                .build()).getId();
+
+        Location soldOut = locationRepository.save(Location.builder()
+                .name("Standort ausverkauft")
+                .address("Nebenstraße 2")
+                .build());
+        for (int day = 1; day <= 7; day++) {
+            scheduleRepository.save(LocationSchedule.builder()
+                    .location(soldOut)
+                    .dayOfWeek(day)
+                    .openingTime(LocalTime.MIN)
+                    .closingTime(LocalTime.MAX)
+                    .dailyCapacity(200)
+                    .build());
+        }
+        inventoryRepository.save(DailyInventory.builder()
+                .location(soldOut)
+                .date(today)
+                .totalChickens(0)
+                .build());
+        soldOutLocationId = soldOut.getId();
+
+        seedHistoricalReservations(today);
+    }
+
+    private void seedHistoricalReservations(LocalDate today) {
+        JdbcTemplate jdbcTemplate = bean(JdbcTemplate.class);
+        Random random = new Random(42);
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (int i = 0; i < HISTORICAL_RESERVATIONS; i++) {
+            LocalDate date = today.minusDays(1 + random.nextInt(365));
+            LocalDateTime createdAt = date.atTime(8 + random.nextInt(4), random.nextInt(60));
+            batch.add(new Object[]{
+                    UUID.randomUUID(),
+                    location(i),
+                    // Hex codes contain 0/1, which generated codes never do, so they cannot collide
+                    String.format("%08X", i),
+                    "Kunde " + i,
+                    1 + random.nextInt(4),
+                    random.nextInt(3),
+                    Date.valueOf(date),
+                    Time.valueOf(LocalTime.of(11 + random.nextInt(8), 15 * random.nextInt(4))),
+                    HISTORICAL_STATUSES[random.nextInt(HISTORICAL_STATUSES.length)].name(),
+                    Timestamp.valueOf(createdAt),
+                    Timestamp.valueOf(createdAt)});
+            if (batch.size() == INSERT_BATCH_SIZE) {
+                insert(jdbcTemplate, batch);
+                batch.clear();
+            }
+        }
+        insert(jdbcTemplate, batch);
+    }
+
+    private static void insert(JdbcTemplate jdbcTemplate, List<Object[]> rows) {
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO reservation (id, location_id, confirmation_code, customer_name, chicken_count,
+                                         fries_count, reservation_date, pickup_time, status, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """, rows);
+    }
+}
@@ -0,0 +1,155 @@
+package org.example.foodtruckbookingservice.benchmark;
+
+import org.example.foodtruckbookingservice.dto.request.CreateReservationRequest;
+import org.example.foodtruckbookingservice.dto.response.AvailabilityResponse;
+import org.example.foodtruckbookingservice.dto.response.ReservationResponse;
+import org.example.foodtruckbookingservice.dto.response.WeeklyScheduleResponse;
+import org.example.foodtruckbookingservice.entity.Location;
+import org.example.foodtruckbookingservice.entity.Reservation;
+import org.example.foodtruckbookingservice.entity.ReservationStatus;
+import org.example.foodtruckbookingservice.exception.BusinessRuleViolationException;
+import org.example.foodtruckbookingservice.exception.CapacityExceededException;
+import org.example.foodtruckbookingservice.exception.GlobalExceptionHandler;
+import org.example.foodtruckbookingservice.exception.LocationNotFoundException;
+import org.example.foodtruckbookingservice.mapper.ReservationMapper;
+import org.example.foodtruckbookingservice.service.ConfirmationCodeGenerator;
+import org.example.foodtruckbookingservice.service.InventoryService;
+import org.example.foodtruckbookingservice.service.LocationService;
+import org.example.foodtruckbookingservice.service.ReservationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ProblemDetail;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hot paths of booking and availability, each measured as a service call against
+ * {@link BenchmarkData} (mapping and code generation without DB).
+ *
+ * <p>The {@code reject*} benchmarks measure rejected bookings through the service proxy up to
+ * the problem detail of {@link GlobalExceptionHandler}, i.e. exception creation and unwinding.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookingPathBenchmarks {
+
+    private ReservationService reservationService;
+    private InventoryService inventoryService;
+    private LocationService locationService;
+    private ReservationMapper reservationMapper;
+    private ConfirmationCodeGenerator confirmationCodeGenerator;
+    private GlobalExceptionHandler exceptionHandler;
+    private Reservation reservation;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkData data) {
+        reservationService = data.bean(ReservationService.class);
+        inventoryService = data.bean(InventoryService.class);
+        locationService = data.bean(LocationService.class);
+        reservationMapper = data.bean(ReservationMapper.class);
+        confirmationCodeGenerator = data.bean(ConfirmationCodeGenerator.class);
+        exceptionHandler = data.bean(GlobalExceptionHandler.class);
+        reservation = Reservation.builder()
+                .id(UUID.randomUUID())
+                .location(Location.builder().id(data.location(0)).name("Standort 1").address("Hauptstraße 1").build())
+                .confirmationCode("HUHNK4M7")
+                .customerName("Max Mustermann")
+                .customerEmail("max@example.com")
+                .chickenCount(2)
+                .friesCount(1)
+                .reservationDate(LocalDate.now())
+                .pickupTime(LocalTime.NOON)
+                .status(ReservationStatus.CONFIRMED)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Benchmark
+    public ReservationResponse createReservation(BenchmarkData data) {
+        return reservationService.createReservation(bookingFor(data.location(next++)));
+    }
+
+    @Benchmark
+    public ProblemDetail rejectClosedLocation(BenchmarkData data) {
+        try {
+            reservationService.createReservation(bookingFor(data.closedLocationId));
+            throw new IllegalStateException("Booking for a closed location was accepted");
+        } catch (BusinessRuleViolationException e) {
+            return exceptionHandler.handleBusinessRuleViolation(e);
+        }
+    }
+
+    @Benchmark
+    public ProblemDetail rejectSoldOut(BenchmarkData data) {
+        try {
+            reservationService.createReservation(bookingFor(data.soldOutLocationId));
+            throw new IllegalStateException("Booking for a sold-out location was accepted");
+        } catch (CapacityExceededException e) {
+            return exceptionHandler.handleCapacityExceeded(e);
+        }
+    }
+
+    @Benchmark
+    public ProblemDetail rejectUnknownLocation() {
+        UUID unknown = new UUID(0, next++);
+        try {
+            reservationService.createReservation(bookingFor(unknown));
+            throw new IllegalStateException("Booking for an unknown location was accepted");
+        } catch (LocationNotFoundException e) {
+            return exceptionHandler.handleLocationNotFound(e);
+        }
+    }
+
+    @Benchmark
+    public int getAvailableChickens(BenchmarkData data) {
+        return inventoryService.getAvailableChickens(data.location(next++));
+    }
+
+    @Benchmark
+    public AvailabilityResponse checkAvailability(BenchmarkData data) {
+        return locationService.checkAvailability(data.location(next++), LocalDate.now());
+    }
+
+    @Benchmark
+    public WeeklyScheduleResponse getWeeklySchedule() {
+        return locationService.getWeeklySchedule();
+    }
+
+    @Benchmark
+    public ReservationResponse mapReservation() {
+        return reservationMapper.toResponse(reservation);
+    }
+
+    @Benchmark
+    public String nextConfirmationCode() {
+        return confirmationCodeGenerator.nextCode();
+    }
+
+    private static CreateReservationRequest bookingFor(UUID locationId) {
+        return CreateReservationRequest.builder()
+                .locationId(locationId)
+                .customerName("Benchmark")
+                .chickenCount(1)
+                .friesCount(1)
+                .build();
+    }
+}
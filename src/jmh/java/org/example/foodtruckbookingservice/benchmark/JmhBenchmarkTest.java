@@ -0,0 +1,33 @@
+package org.example.foodtruckbookingservice.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the JMH benchmarks and writes the results as JSON, so runs of two commits can be diffed.
+ *
+ * <p>{@code mvn test -Pbenchmark -Dtest=JmhBenchmarkTest} runs all of them,
+ * {@code -Djmh.include=<regex>} selects benchmarks and {@code -Djmh.result=<file>} changes the
+ * output file (default {@code target/jmh-result.json}).
+ */
+@Tag("benchmark")
+class JmhBenchmarkTest {
+
+    @Test
+    void runBenchmarks() throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(System.getProperty("jmh.include", BookingPathBenchmarks.class.getSimpleName()))
+                .resultFormat(ResultFormatType.JSON)
+                .result(System.getProperty("jmh.result", "target/jmh-result.json"))
+                .build();
+
+        assertThat(new Runner(options).run()).isNotEmpty();
+    }
+}
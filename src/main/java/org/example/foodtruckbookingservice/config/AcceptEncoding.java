@@ -0,0 +1,55 @@
+package org.example.foodtruckbookingservice.config;
+
+/**
+ * Reads the {@code Accept-Encoding} request header (RFC 9110, section 12.5.3).
+ */
+public final class AcceptEncoding {
+
+    private static final String ANY = "*";
+
+    private AcceptEncoding() {
+    }
+
+    /**
+     * Whether a content coding is acceptable: listed (or matched by {@code *}) with a q-value
+     * above 0. An explicit entry for the coding wins over {@code *}, so {@code gzip;q=0} refuses
+     * gzip even next to {@code *}.
+     *
+     * @param header the header value, {@code null} if the request has none
+     * @param coding the content coding, e.g. {@code gzip}
+     * @return true if the client accepts the coding
+     */
+    public static boolean accepts(String header, String coding) {
+        if (header == null) {
+            return false;
+        }
+        Boolean any = null;
+        for (String element : header.split(",")) {
+            String[] parts = element.split(";");
+            String name = parts[0].trim();
+            if (name.equalsIgnoreCase(coding)) {
+                return quality(parts) > 0;
+            }
+            if (name.equals(ANY)) {
+                any = quality(parts) > 0;
+            }
+        }
+        return Boolean.TRUE.equals(any);
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.length() > 2 && (parameter.charAt(0) == 'q' || parameter.charAt(0) == 'Q')
+                    && parameter.charAt(1) == '=') {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    // Malformed weight, treated as not acceptable
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
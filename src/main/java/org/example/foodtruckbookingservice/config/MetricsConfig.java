@@ -0,0 +1,84 @@
+package org.example.foodtruckbookingservice.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Metrics configuration.
+ * Latency histograms with SLO buckets for the public endpoints (customers), so the share of
+ * requests within e.g. 250 ms can be read directly from Prometheus.
+ * Hits and misses per Hibernate second-level cache region (locations, schedules, query cache).
+ */
+@Configuration
+public class MetricsConfig {
+
+    private static final String HTTP_SERVER_REQUESTS = "http.server.requests";
+    private static final String CACHE_REQUESTS = "hibernate.second.level.cache.requests";
+
+    @Bean
+    public MeterFilter publicEndpointSlos(@Value("${app.metrics.public-endpoint-slo:50ms,100ms,250ms,500ms,1s,2s}") List<Duration> slos) {
+        double[] buckets = slos.stream().mapToDouble(Duration::toNanos).toArray();
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!HTTP_SERVER_REQUESTS.equals(id.getName()) || !isPublic(id.getTag("uri"))) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .serviceLevelObjectives(buckets)
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return registry -> {
+            for (String region : statistics.getSecondLevelCacheRegionNames()) {
+                if (statistics.getCacheRegionStatistics(region) == null) {
+                    continue;
+                }
+                FunctionCounter.builder(CACHE_REQUESTS, statistics,
+                                s -> regionCount(s, region, CacheRegionStatistics::getHitCount))
+                        .description("Second-level cache requests found in the cache")
+                        .tags("region", region, "result", "hit")
+                        .register(registry);
+                FunctionCounter.builder(CACHE_REQUESTS, statistics,
+                                s -> regionCount(s, region, CacheRegionStatistics::getMissCount))
+                        .description("Second-level cache requests not found in the cache")
+                        .tags("region", region, "result", "miss")
+                        .register(registry);
+            }
+        };
+    }
+
+    private static double regionCount(
+            Statistics statistics, String region, ToLongFunction<CacheRegionStatistics> count) {
+        CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+        return regionStatistics != null ? count.applyAsLong(regionStatistics) : 0;
+    }
+
+    private static boolean isPublic(String uri) {
+        return uri != null
+                && uri.startsWith("/api/v1/")
+                && !uri.startsWith("/api/v1/staff/")
+                && !uri.startsWith("/api/v1/admin/")
+                && !uri.startsWith("/api/v1/auth/");
+    }
+}
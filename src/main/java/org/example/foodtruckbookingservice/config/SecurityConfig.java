@@ -1,9 +1,14 @@
 package org.example.foodtruckbookingservice.config;
 
+import jakarta.servlet.DispatcherType;
+import org.example.foodtruckbookingservice.service.AuthTokenService;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -14,12 +19,13 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 
 import static org.springframework.security.config.Customizer.withDefaults;
 
 /**
  * Security configuration for the API.
- * MVP: Basic Auth with in-memory users.
+ * MVP: in-memory users, signed tokens from {@code POST /api/v1/auth/login} (Basic Auth still accepted).
  * Phase 2: JWT-based authentication.
  */
 @Configuration
@@ -36,15 +42,23 @@ public class SecurityConfig {
     private String adminPassword;
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, AuthTokenService authTokenService)
+            throws Exception {
         http
                 .csrf(AbstractHttpConfigurer::disable)
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // Completion of SSE streams, the original request was already authorized
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
+                        // Login - checks the password itself and issues a token
+                        .requestMatchers(HttpMethod.POST, "/api/v1/auth/login").permitAll()
+
                         // Public endpoints - no auth required
                         .requestMatchers(HttpMethod.GET, "/api/v1/locations/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/schedule").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/v1/availability/today").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/v1/reservations").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/reservations/**").permitAll()
                         .requestMatchers(HttpMethod.DELETE, "/api/v1/reservations/code/**").permitAll()
@@ -61,6 +75,8 @@ public class SecurityConfig {
                         // All other requests require authentication
                         .anyRequest().authenticated()
                 )
+                // Token first, so token requests never reach the BCrypt check of Basic Auth
+                .addFilterBefore(new TokenAuthenticationFilter(authTokenService), BasicAuthenticationFilter.class)
                 .httpBasic(withDefaults());
 
         return http.build();
@@ -95,6 +111,17 @@ public class SecurityConfig {
         return new InMemoryUserDetailsManager(wagen1, wagen2, admin);
     }
 
+    /**
+     * Password check for the login endpoint (same users and encoder as Basic Auth).
+     */
+    @Bean
+    public AuthenticationManager authenticationManager(
+            UserDetailsService userDetailsService, PasswordEncoder passwordEncoder) {
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider(userDetailsService);
+        provider.setPasswordEncoder(passwordEncoder);
+        return new ProviderManager(provider);
+    }
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
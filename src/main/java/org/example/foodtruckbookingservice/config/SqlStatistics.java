@@ -0,0 +1,82 @@
+package org.example.foodtruckbookingservice.config;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * SQL statements, rows and JDBC time of the current HTTP request.
+ *
+ * <p>Bound to the request thread by {@link SqlStatisticsFilter} and filled by the JDBC proxies of
+ * {@link SqlStatisticsDataSource}. Statements on other threads (e.g. the group-commit workers of
+ * the reservation admission) are not attributed to a request.
+ */
+final class SqlStatistics {
+
+    private static final ThreadLocal<SqlStatistics> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, Integer> executionsBySql = new HashMap<>();
+    private int statements;
+    private long rows;
+    private long nanos;
+
+    private SqlStatistics() {
+    }
+
+    static SqlStatistics start() {
+        SqlStatistics statistics = new SqlStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    static void stop() {
+        CURRENT.remove();
+    }
+
+    /**
+     * @return the statistics of the request on this thread, null outside of requests
+     */
+    static SqlStatistics current() {
+        return CURRENT.get();
+    }
+
+    void statement(String sql, long executionNanos) {
+        statements++;
+        nanos += executionNanos;
+        if (sql != null) {
+            executionsBySql.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    void row() {
+        rows++;
+    }
+
+    int statements() {
+        return statements;
+    }
+
+    long rows() {
+        return rows;
+    }
+
+    long nanos() {
+        return nanos;
+    }
+
+    /**
+     * The same SQL executed several times with different parameters is the typical N+1 pattern.
+     *
+     * @param threshold minimum executions to report
+     * @return SQL executed at least threshold times, with its number of executions
+     */
+    Map<String, Integer> repeated(int threshold) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        executionsBySql.forEach((sql, count) -> {
+            if (count >= threshold) {
+                repeated.put(sql, count);
+            }
+        });
+        return repeated;
+    }
+}
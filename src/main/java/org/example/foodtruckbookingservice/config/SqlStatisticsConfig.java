@@ -0,0 +1,43 @@
+package org.example.foodtruckbookingservice.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Per-request SQL statistics: statement count, rows and JDBC time per HTTP request,
+ * with a statement budget and N+1 detection (see {@link SqlStatisticsFilter}).
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.sql-statistics.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatisticsConfig {
+
+    /**
+     * Wraps the DataSource so that all JDBC access (JPA, JdbcTemplate) is counted.
+     */
+    @Bean
+    public static BeanPostProcessor sqlStatisticsDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource ? SqlStatisticsDataSource.wrap(dataSource) : bean;
+            }
+        };
+    }
+
+    @Bean
+    SqlStatisticsFilter sqlStatisticsFilter(
+            MeterRegistry meterRegistry,
+            @Value("${app.sql-statistics.statement-budget:10}") int statementBudget,
+            @Value("${app.sql-statistics.repeated-query-threshold:3}") int repeatedQueryThreshold,
+            @Value("${app.sql-statistics.response-headers:false}") boolean responseHeaders,
+            @Value("${app.sql-statistics.fail-on-violation:false}") boolean failOnViolation) {
+        return new SqlStatisticsFilter(
+                meterRegistry, statementBudget, repeatedQueryThreshold, responseHeaders, failOnViolation);
+    }
+}
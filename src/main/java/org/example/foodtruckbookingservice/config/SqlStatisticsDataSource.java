@@ -0,0 +1,103 @@
+package org.example.foodtruckbookingservice.config;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * JDK proxies around DataSource, Connection, Statement and ResultSet that record executed
+ * statements, their time and the rows read in the {@link SqlStatistics} of the current request.
+ * Outside of requests they only delegate.
+ */
+final class SqlStatisticsDataSource {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private SqlStatisticsDataSource() {
+    }
+
+    static DataSource wrap(DataSource dataSource) {
+        return proxy(DataSource.class, (method, args) -> {
+            Object result = invoke(dataSource, method, args);
+            return result instanceof Connection connection ? wrap(connection) : result;
+        });
+    }
+
+    private static Connection wrap(Connection connection) {
+        return proxy(Connection.class, (method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof Statement statement) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                return wrap(method.getReturnType().asSubclass(Statement.class), statement, sql);
+            }
+            return result;
+        });
+    }
+
+    private static <T extends Statement> T wrap(Class<T> type, Statement statement, String preparedSql) {
+        return proxy(type, (method, args) -> {
+            SqlStatistics statistics = SqlStatistics.current();
+            if (statistics == null) {
+                return invoke(statement, method, args);
+            }
+            if (EXECUTE_METHODS.contains(method.getName())) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+                long start = System.nanoTime();
+                Object result = invoke(statement, method, args);
+                statistics.statement(sql, System.nanoTime() - start);
+                return result instanceof ResultSet resultSet ? wrap(resultSet) : result;
+            }
+            Object result = invoke(statement, method, args);
+            return result instanceof ResultSet resultSet && "getResultSet".equals(method.getName())
+                    ? wrap(resultSet)
+                    : result;
+        });
+    }
+
+    private static ResultSet wrap(ResultSet resultSet) {
+        return proxy(ResultSet.class, (method, args) -> {
+            Object result = invoke(resultSet, method, args);
+            if ("next".equals(method.getName()) && Boolean.TRUE.equals(result)) {
+                SqlStatistics statistics = SqlStatistics.current();
+                if (statistics != null) {
+                    statistics.row();
+                }
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Proxies compare by identity, Hibernate keeps statements and result sets in hash maps.
+     */
+    private static <T> T proxy(Class<T> type, Delegation delegation) {
+        InvocationHandler handler = (proxy, method, args) -> switch (method.getName()) {
+            case "equals" -> args.length == 1 ? proxy == args[0] : delegation.invoke(method, args);
+            case "hashCode" -> args == null ? System.identityHashCode(proxy) : delegation.invoke(method, args);
+            default -> delegation.invoke(method, args);
+        };
+        return type.cast(Proxy.newProxyInstance(
+                SqlStatisticsDataSource.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Delegation {
+
+        Object invoke(Method method, Object[] args) throws Throwable;
+    }
+}
@@ -0,0 +1,133 @@
+package org.example.foodtruckbookingservice.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts SQL statements, rows and JDBC time per HTTP request (see {@link SqlStatistics}).
+ *
+ * <p>Records them as metrics per endpoint, optionally adds them as response headers (dev mode)
+ * and reports requests that exceed the statement budget or run the same query repeatedly
+ * (N+1) - as warning, or as exception to fail tests.
+ */
+@Slf4j
+class SqlStatisticsFilter extends OncePerRequestFilter implements Ordered {
+
+    static final String STATEMENTS_HEADER = "X-SQL-Statements";
+    static final String ROWS_HEADER = "X-SQL-Rows";
+    static final String TIME_HEADER = "X-SQL-Time-Millis";
+
+    private final MeterRegistry meterRegistry;
+    private final int statementBudget;
+    private final int repeatedQueryThreshold;
+    private final boolean responseHeaders;
+    private final boolean failOnViolation;
+
+    SqlStatisticsFilter(
+            MeterRegistry meterRegistry,
+            int statementBudget,
+            int repeatedQueryThreshold,
+            boolean responseHeaders,
+            boolean failOnViolation) {
+        this.meterRegistry = meterRegistry;
+        this.statementBudget = statementBudget;
+        this.repeatedQueryThreshold = repeatedQueryThreshold;
+        this.responseHeaders = responseHeaders;
+        this.failOnViolation = failOnViolation;
+    }
+
+    /**
+     * Outermost, so statements of the security filters are counted too.
+     */
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlStatistics statistics = SqlStatistics.start();
+        // Headers must be set before the body is written, so the body is buffered (not for SSE streams)
+        ContentCachingResponseWrapper buffered = responseHeaders && !request.getRequestURI().endsWith("/stream")
+                ? new ContentCachingResponseWrapper(response)
+                : null;
+        try {
+            chain.doFilter(request, buffered != null ? buffered : response);
+        } finally {
+            SqlStatistics.stop();
+            if (buffered != null) {
+                buffered.setHeader(STATEMENTS_HEADER, String.valueOf(statistics.statements()));
+                buffered.setHeader(ROWS_HEADER, String.valueOf(statistics.rows()));
+                buffered.setHeader(TIME_HEADER, String.valueOf(statistics.nanos() / 1_000_000));
+                buffered.copyBodyToResponse();
+            }
+        }
+
+        String endpoint = request.getMethod() + " " + uri(request);
+        record(request, statistics);
+        check(endpoint, statistics);
+    }
+
+    private void record(HttpServletRequest request, SqlStatistics statistics) {
+        Tags tags = Tags.of("method", request.getMethod(), "uri", uri(request));
+        DistributionSummary.builder("http.server.requests.sql.statements")
+                .description("SQL statements per request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(statistics.statements());
+        DistributionSummary.builder("http.server.requests.sql.rows")
+                .description("Rows read per request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(statistics.rows());
+        Timer.builder("http.server.requests.sql.time")
+                .description("JDBC execution time per request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(statistics.nanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private void check(String endpoint, SqlStatistics statistics) {
+        List<String> violations = new ArrayList<>();
+        if (statistics.statements() > statementBudget) {
+            violations.add(statistics.statements() + " statements (budget " + statementBudget + ")");
+        }
+        for (Map.Entry<String, Integer> repeated : statistics.repeated(repeatedQueryThreshold).entrySet()) {
+            violations.add("same query " + repeated.getValue() + " times (N+1?): " + repeated.getKey());
+        }
+        if (violations.isEmpty()) {
+            return;
+        }
+        String message = "SQL budget exceeded by " + endpoint + ": " + String.join("; ", violations);
+        if (failOnViolation) {
+            throw new IllegalStateException(message);
+        }
+        log.warn(message);
+    }
+
+    /**
+     * @return the matched route (e.g. /api/v1/reservations/{reservationId}), bounded for metric tags
+     */
+    private static String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
@@ -0,0 +1,206 @@
+package org.example.foodtruckbookingservice.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.HttpRequestHandler;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serves the built frontend from memory.
+ *
+ * <p>All files below the static location are read once at startup, with a strong ETag (content
+ * hash) and a gzip variant for compressible types. Brotli variants are used if the frontend build
+ * placed a {@code .br} file next to the asset (the JDK has no Brotli encoder). Vite bundles under
+ * {@code assets/} carry a content hash in their name and are cached as {@code immutable}; all
+ * other files, including {@code index.html}, are revalidated via ETag.
+ *
+ * <p>Paths without a file are answered with {@code index.html}, so React Router can handle them,
+ * except below {@code api/} and {@code assets/}: a missing bundle (e.g. referenced by a cached
+ * {@code index.html} of an older release) is a 404, not HTML under a script URL.
+ */
+@Slf4j
+class StaticAssetHandler implements HttpRequestHandler {
+
+    private static final String INDEX = "index.html";
+    private static final String HASHED_ASSETS = "assets/";
+    private static final String GZIP = "gzip";
+    private static final String BROTLI = "br";
+    private static final int COMPRESS_MIN_SIZE = 1024;
+
+    private static final String IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365))
+            .cachePublic()
+            .immutable()
+            .getHeaderValue();
+    private static final String REVALIDATE = CacheControl.noCache().getHeaderValue();
+
+    private final Map<String, Asset> assets;
+
+    private StaticAssetHandler(Map<String, Asset> assets) {
+        this.assets = assets;
+    }
+
+    /**
+     * Read all files below a location into memory.
+     *
+     * @param resolver the resolver to list the files with
+     * @param location the location, e.g. {@code classpath:/static/}
+     * @return the handler
+     * @throws IOException if a file cannot be read
+     */
+    static StaticAssetHandler load(ResourcePatternResolver resolver, String location) throws IOException {
+        Resource root = resolver.getResource(location);
+        if (!root.exists()) {
+            log.info("No frontend found at {}", location);
+            return new StaticAssetHandler(Map.of());
+        }
+        String rootUri = root.getURI().toString();
+
+        Map<String, byte[]> files = new HashMap<>();
+        for (Resource resource : resolver.getResources(location + "**")) {
+            String uri = resource.getURI().toString();
+            if (resource.isReadable() && uri.startsWith(rootUri) && !uri.endsWith("/")) {
+                files.put(uri.substring(rootUri.length()), resource.getContentAsByteArray());
+            }
+        }
+
+        Map<String, Asset> assets = new HashMap<>();
+        files.forEach((path, content) -> {
+            if (!path.endsWith(".br") && !path.endsWith(".gz")) {
+                assets.put(path, Asset.of(path, content, files.get(path + ".br")));
+            }
+        });
+        log.info("Serving {} frontend files from memory", assets.size());
+        return new StaticAssetHandler(Map.copyOf(assets));
+    }
+
+    @Override
+    public void handleRequest(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String method = request.getMethod();
+        if (!HttpMethod.GET.matches(method) && !HttpMethod.HEAD.matches(method)) {
+            response.setHeader(HttpHeaders.ALLOW, "GET, HEAD");
+            response.sendError(HttpServletResponse.SC_METHOD_NOT_ALLOWED);
+            return;
+        }
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        path = path.startsWith("/") ? path.substring(1) : path;
+        Asset asset = assets.get(path.isEmpty() ? INDEX : path);
+        if (asset == null && !path.startsWith("api/") && !path.startsWith(HASHED_ASSETS)) {
+            asset = assets.get(INDEX);
+        }
+        if (asset == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        String encoding = null;
+        byte[] body = asset.content();
+        if (asset.brotli() != null && AcceptEncoding.accepts(acceptEncoding, BROTLI)) {
+            encoding = BROTLI;
+            body = asset.brotli();
+        } else if (asset.gzip() != null && AcceptEncoding.accepts(acceptEncoding, GZIP)) {
+            encoding = GZIP;
+            body = asset.gzip();
+        }
+
+        if (asset.gzip() != null || asset.brotli() != null) {
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        response.setHeader(HttpHeaders.CACHE_CONTROL, asset.cacheControl());
+        // Every representation has its own strong ETag, set on the response by checkNotModified
+        String eTag = encoding != null ? asset.eTag() + "-" + encoding : asset.eTag();
+        if (new ServletWebRequest(request, response).checkNotModified(eTag)) {
+            return;
+        }
+
+        response.setContentType(asset.contentType());
+        if (encoding != null) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, encoding);
+        }
+        response.setContentLength(body.length);
+        if (HttpMethod.GET.matches(method)) {
+            response.getOutputStream().write(body);
+        }
+    }
+
+    /**
+     * One file with its precomputed variants.
+     *
+     * @param contentType  the content type
+     * @param eTag         content hash of the uncompressed file
+     * @param cacheControl the Cache-Control header value
+     * @param content      the file
+     * @param gzip         gzipped file, {@code null} if not compressible or not smaller
+     * @param brotli       Brotli variant from the build, {@code null} if there is none
+     */
+    private record Asset(
+            String contentType,
+            String eTag,
+            String cacheControl,
+            byte[] content,
+            byte[] gzip,
+            byte[] brotli) {
+
+        private static Asset of(String path, byte[] content, byte[] brotli) {
+            MediaType mediaType = MediaTypeFactory.getMediaType(path).orElse(MediaType.APPLICATION_OCTET_STREAM);
+            String contentType = mediaType.getType().equals("text") && mediaType.getCharset() == null
+                    ? mediaType + ";charset=UTF-8"
+                    : mediaType.toString();
+            byte[] gzip = isCompressible(mediaType) && content.length >= COMPRESS_MIN_SIZE ? gzip(content) : null;
+            return new Asset(
+                    contentType,
+                    eTag(content),
+                    path.startsWith(HASHED_ASSETS) ? IMMUTABLE : REVALIDATE,
+                    content,
+                    gzip != null && gzip.length < content.length ? gzip : null,
+                    brotli);
+        }
+
+        private static boolean isCompressible(MediaType mediaType) {
+            String subtype = mediaType.getSubtype();
+            return mediaType.getType().equals("text")
+                    || subtype.contains("javascript")
+                    || subtype.contains("json")
+                    || subtype.contains("xml");
+        }
+
+        private static byte[] gzip(byte[] content) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 3);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+                gzip.write(content);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return out.toByteArray();
+        }
+
+        private static String eTag(byte[] content) {
+            try {
+                byte[] hash = MessageDigest.getInstance("SHA-256").digest(content);
+                return HexFormat.of().formatHex(hash, 0, 16);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 not available", e);
+            }
+        }
+    }
+}
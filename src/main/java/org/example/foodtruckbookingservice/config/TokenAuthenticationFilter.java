@@ -0,0 +1,47 @@
+package org.example.foodtruckbookingservice.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.foodtruckbookingservice.service.AuthTokenService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Authenticates requests with an {@code Authorization: Bearer <token>} header issued by
+ * {@code POST /api/v1/auth/login}. Requests without a valid token continue unauthenticated,
+ * so Basic Auth still works and protected endpoints answer 401.
+ */
+class TokenAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final AuthTokenService authTokenService;
+    private final SecurityContextHolderStrategy securityContextHolderStrategy =
+            SecurityContextHolder.getContextHolderStrategy();
+
+    TokenAuthenticationFilter(AuthTokenService authTokenService) {
+        this.authTokenService = authTokenService;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            authTokenService.verify(header.substring(BEARER_PREFIX.length()).trim())
+                    .ifPresent(authentication -> {
+                        SecurityContext context = securityContextHolderStrategy.createEmptyContext();
+                        context.setAuthentication(authentication);
+                        securityContextHolderStrategy.setContext(context);
+                    });
+        }
+        chain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,153 @@
+package org.example.foodtruckbookingservice.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Reports virtual threads that block while pinned to their carrier thread (JFR event
+ * {@code jdk.VirtualThreadPinned}), e.g. inside {@code synchronized} in {@code SecureRandom}
+ * or the JDBC driver. A pinned virtual thread holds one of the few carrier threads, so on the
+ * booking path pinning shows up as throughput loss long before CPU or DB are busy.
+ *
+ * <p>Pinnings are grouped by the frame that blocked and the first application frame below it
+ * and exposed as actuator endpoint {@code /actuator/pinning}. Each new site is logged once with
+ * its stack. Only active with {@code app.diagnostics.pinning.enabled=true}
+ * (profile {@code virtual-threads}).
+ */
+@Slf4j
+@Component
+@Endpoint(id = "pinning")
+@ConditionalOnProperty(name = "app.diagnostics.pinning.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APPLICATION_PACKAGE = "org.example.foodtruckbookingservice.";
+    private static final int REPORTED_SITES = 20;
+
+    private final Duration threshold;
+    private final ConcurrentMap<Site, SiteStats> sites = new ConcurrentHashMap<>();
+    private final AtomicLong total = new AtomicLong();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(@Value("${app.diagnostics.pinning.threshold:20ms}") Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    @PostConstruct
+    void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::record);
+        stream.startAsync();
+        log.info("Reporting virtual thread pinning longer than {}", threshold);
+    }
+
+    @PreDestroy
+    void stop() {
+        stream.close();
+    }
+
+    /**
+     * @return pinning sites, most frequent first
+     */
+    @ReadOperation
+    public Map<String, Object> pinning() {
+        List<Map<String, Object>> report = sites.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<Site, SiteStats> e) -> e.getValue().count.sum())
+                        .reversed())
+                .limit(REPORTED_SITES)
+                .map(e -> {
+                    Map<String, Object> site = new LinkedHashMap<>();
+                    site.put("blockedAt", e.getKey().blockedAt());
+                    site.put("applicationFrame", e.getKey().applicationFrame());
+                    site.put("count", e.getValue().count.sum());
+                    site.put("totalMillis", e.getValue().totalNanos.sum() / 1_000_000);
+                    site.put("maxMillis", e.getValue().maxNanos.get() / 1_000_000);
+                    return site;
+                })
+                .toList();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("thresholdMillis", threshold.toMillis());
+        result.put("total", total.get());
+        result.put("sites", report);
+        return result;
+    }
+
+    void record(RecordedEvent event) {
+        List<RecordedFrame> frames = frames(event.getStackTrace());
+        Site site = new Site(
+                frames.stream().filter(frame -> !isRuntimeFrame(frame)).findFirst()
+                        .map(VirtualThreadPinningMonitor::format).orElse("unknown"),
+                frames.stream().filter(VirtualThreadPinningMonitor::isApplicationFrame).findFirst()
+                        .map(VirtualThreadPinningMonitor::format).orElse("unknown"));
+        long nanos = event.getDuration().toNanos();
+
+        total.incrementAndGet();
+        SiteStats stats = sites.computeIfAbsent(site, key -> {
+            log.warn("Virtual thread pinned for {} ms at {} (application frame {}):{}",
+                    nanos / 1_000_000, key.blockedAt(), key.applicationFrame(), stackOf(frames));
+            return new SiteStats();
+        });
+        stats.count.increment();
+        stats.totalNanos.add(nanos);
+        stats.maxNanos.accumulate(nanos);
+    }
+
+    private static List<RecordedFrame> frames(RecordedStackTrace stackTrace) {
+        return stackTrace != null ? stackTrace.getFrames() : List.of();
+    }
+
+    private static boolean isRuntimeFrame(RecordedFrame frame) {
+        String type = frame.getMethod().getType().getName();
+        return type.startsWith("java.lang.VirtualThread")
+                || type.startsWith("jdk.internal.")
+                || type.startsWith("java.util.concurrent.locks.");
+    }
+
+    private static boolean isApplicationFrame(RecordedFrame frame) {
+        return frame.getMethod().getType().getName().startsWith(APPLICATION_PACKAGE);
+    }
+
+    private static String format(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+
+    private static String stackOf(List<RecordedFrame> frames) {
+        StringBuilder sb = new StringBuilder();
+        frames.forEach(frame -> sb.append(System.lineSeparator()).append("\tat ").append(format(frame)));
+        return sb.toString();
+    }
+
+    private record Site(String blockedAt, String applicationFrame) {
+    }
+
+    private static final class SiteStats {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+    }
+}
@@ -1,44 +1,30 @@
 package org.example.foodtruckbookingservice.config;
 
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.core.io.ClassPathResource;
-import org.springframework.core.io.Resource;
-import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
-import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
-import org.springframework.web.servlet.resource.PathResourceResolver;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.web.servlet.handler.SimpleUrlHandlerMapping;
 
 import java.io.IOException;
+import java.util.Map;
 
 /**
  * Web-Konfiguration für SPA (Single Page Application) Support.
- * Leitet alle nicht-API Routen auf index.html um, damit React Router funktioniert.
+ * Liefert das gebaute Frontend aus dem Speicher ({@link StaticAssetHandler}) und leitet alle
+ * nicht-API Routen auf index.html um, damit React Router funktioniert.
+ * Boots eigenes Static-Resource-Mapping ist abgeschaltet ({@code spring.web.resources.add-mappings=false}).
  */
 @Configuration
-public class WebConfig implements WebMvcConfigurer {
+public class WebConfig {
 
-    @Override
-    public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        registry.addResourceHandler("/**")
-                .addResourceLocations("classpath:/static/")
-                .resourceChain(true)
-                .addResolver(new PathResourceResolver() {
-                    @Override
-                    protected Resource getResource(String resourcePath, Resource location) throws IOException {
-                        Resource requestedResource = location.createRelative(resourcePath);
-
-                        // Wenn die Ressource existiert (JS, CSS, Bilder), liefere sie
-                        if (requestedResource.exists() && requestedResource.isReadable()) {
-                            return requestedResource;
-                        }
-
-                        // API-Routen nicht hier behandeln (werden von Controllern bearbeitet)
-                        if (resourcePath.startsWith("api/")) {
-                            return null;
-                        }
-
-                        // Für alle anderen Routen: index.html (SPA Fallback)
-                        return new ClassPathResource("/static/index.html");
-                    }
-                });
+    @Bean
+    public SimpleUrlHandlerMapping staticAssetHandlerMapping() throws IOException {
+        StaticAssetHandler handler = StaticAssetHandler.load(
+                new PathMatchingResourcePatternResolver(), "classpath:/static/");
+        // Nach den Controllern, nur Pfade ohne Mapping landen hier
+        SimpleUrlHandlerMapping mapping = new SimpleUrlHandlerMapping(Map.of("/**", handler));
+        mapping.setOrder(Ordered.LOWEST_PRECEDENCE - 1);
+        return mapping;
     }
 }
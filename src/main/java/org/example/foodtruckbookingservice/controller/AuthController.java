@@ -0,0 +1,58 @@
+package org.example.foodtruckbookingservice.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.foodtruckbookingservice.dto.request.LoginRequest;
+import org.example.foodtruckbookingservice.dto.response.LoginResponse;
+import org.example.foodtruckbookingservice.service.AuthTokenService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for staff/admin login.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/auth")
+@RequiredArgsConstructor
+public class AuthController {
+
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private final AuthenticationManager authenticationManager;
+    private final AuthTokenService authTokenService;
+
+    /**
+     * Check the password once and issue a short-lived token for the staff/admin endpoints.
+     * Public endpoint - the credentials are in the body.
+     */
+    @PostMapping("/login")
+    public ResponseEntity<LoginResponse> login(@Valid @RequestBody LoginRequest request) {
+        log.info("POST /api/v1/auth/login - user: {}", request.getUsername());
+        Authentication authentication = authenticationManager.authenticate(
+                UsernamePasswordAuthenticationToken.unauthenticated(request.getUsername(), request.getPassword()));
+        AuthTokenService.IssuedToken token = authTokenService.issue(authentication);
+
+        String role = AuthorityUtils.authorityListToSet(authentication.getAuthorities()).stream()
+                .map(authority -> authority.substring(ROLE_PREFIX.length()))
+                .findFirst()
+                .orElse(null);
+
+        return ResponseEntity.ok(LoginResponse.builder()
+                .username(authentication.getName())
+                .role(role)
+                .token(token.token())
+                .tokenType("Bearer")
+                .expiresAt(token.expiresAt())
+                .message("Login erfolgreich")
+                .build());
+    }
+}
@@ -3,15 +3,19 @@ package org.example.foodtruckbookingservice.controller;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.foodtruckbookingservice.config.AcceptEncoding;
 import org.example.foodtruckbookingservice.dto.request.CreateLocationRequest;
 import org.example.foodtruckbookingservice.dto.request.CreateScheduleRequest;
-import org.example.foodtruckbookingservice.dto.response.AvailabilityResponse;
 import org.example.foodtruckbookingservice.dto.response.LocationResponse;
-import org.example.foodtruckbookingservice.dto.response.LocationWithScheduleResponse;
 import org.example.foodtruckbookingservice.dto.response.ScheduleResponse;
-import org.example.foodtruckbookingservice.dto.response.WeeklyScheduleResponse;
+import org.example.foodtruckbookingservice.service.LiveUpdateService;
 import org.example.foodtruckbookingservice.service.LocationService;
+import org.example.foodtruckbookingservice.service.ResourceVersionService;
+import org.example.foodtruckbookingservice.service.ResponseSnapshotCache;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -22,15 +26,21 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.Duration;
 import java.time.LocalDate;
-import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 /**
  * REST controller for location operations.
  * Public endpoints for customers, admin endpoints for location management.
+ *
+ * <p>Public reads are written from {@link ResponseSnapshotCache}: the JSON (and a gzipped variant
+ * for clients sending {@code Accept-Encoding: gzip}) is built once per ETag, not per request.
  */
 @Slf4j
 @RestController
@@ -39,17 +49,49 @@ import java.util.UUID;
 @Validated
 public class LocationController {
 
+    /**
+     * Locations rarely change, revalidated every few minutes.
+     */
+    private static final CacheControl LOCATIONS_CACHE = CacheControl.maxAge(Duration.ofMinutes(5))
+            .staleWhileRevalidate(Duration.ofHours(1))
+            .cachePublic();
+
+    /**
+     * Opening hours change maybe once a month.
+     */
+    private static final CacheControl SCHEDULE_CACHE = CacheControl.maxAge(Duration.ofHours(1))
+            .staleWhileRevalidate(Duration.ofDays(1))
+            .cachePublic();
+
+    /**
+     * Availability changes with every booking, only absorbs bursts of polls.
+     */
+    private static final CacheControl AVAILABILITY_CACHE = CacheControl.maxAge(Duration.ofSeconds(5))
+            .staleWhileRevalidate(Duration.ofSeconds(30))
+            .cachePublic();
+
+    /**
+     * Availability ETags roll over every {@code app.availability.etag-validity} to pick up changes
+     * made on other instances; snapshots are rebuilt at least as often.
+     */
+    private static final Duration AVAILABILITY_SNAPSHOT_MAX_AGE = Duration.ofSeconds(5);
+
+    private static final String GZIP = "gzip";
+
     private final LocationService locationService;
+    private final LiveUpdateService liveUpdateService;
+    private final ResourceVersionService resourceVersionService;
+    private final ResponseSnapshotCache responseSnapshotCache;
 
     /**
      * Get all active locations.
      * Public endpoint - no authentication required.
      */
     @GetMapping("/locations")
-    public ResponseEntity<Map<String, List<LocationResponse>>> getAllLocations() {
+    public ResponseEntity<byte[]> getAllLocations(WebRequest webRequest) {
         log.info("GET /api/v1/locations");
-        List<LocationResponse> locations = locationService.getAllActiveLocations();
-        return ResponseEntity.ok(Map.of("content", locations));
+        return snapshot(webRequest, "locations", resourceVersionService.catalogETag(), LOCATIONS_CACHE, null,
+                () -> Map.of("content", locationService.getAllActiveLocations()));
     }
 
     /**
@@ -68,10 +110,12 @@ public class LocationController {
      * Public endpoint - no authentication required.
      */
     @GetMapping("/locations/{locationId}/schedule")
-    public ResponseEntity<LocationWithScheduleResponse> getLocationSchedule(@PathVariable UUID locationId) {
+    public ResponseEntity<byte[]> getLocationSchedule(
+            @PathVariable UUID locationId,
+            WebRequest webRequest) {
         log.info("GET /api/v1/locations/{}/schedule", locationId);
-        LocationWithScheduleResponse schedule = locationService.getLocationSchedule(locationId);
-        return ResponseEntity.ok(schedule);
+        return snapshot(webRequest, "schedule-" + locationId, resourceVersionService.catalogETag(), SCHEDULE_CACHE,
+                null, () -> locationService.getLocationSchedule(locationId));
     }
 
     /**
@@ -79,13 +123,39 @@ public class LocationController {
      * Public endpoint - no authentication required.
      */
     @GetMapping("/locations/{locationId}/availability")
-    public ResponseEntity<AvailabilityResponse> checkAvailability(
+    public ResponseEntity<byte[]> checkAvailability(
             @PathVariable UUID locationId,
-            @RequestParam(required = false) LocalDate date) {
+            @RequestParam(required = false) LocalDate date,
+            WebRequest webRequest) {
         LocalDate queryDate = date != null ? date : LocalDate.now();
         log.info("GET /api/v1/locations/{}/availability?date={}", locationId, queryDate);
-        AvailabilityResponse availability = locationService.checkAvailability(locationId, queryDate);
-        return ResponseEntity.ok(availability);
+        // Only today is polled, other dates would let clients grow the cache without bound
+        String key = queryDate.equals(LocalDate.now()) ? "availability-" + locationId : null;
+        return snapshot(webRequest, key, resourceVersionService.availabilityETag(locationId, queryDate),
+                AVAILABILITY_CACHE, AVAILABILITY_SNAPSHOT_MAX_AGE,
+                () -> locationService.checkAvailability(locationId, queryDate));
+    }
+
+    /**
+     * Get availability of all locations open today.
+     * Public endpoint - no authentication required.
+     */
+    @GetMapping("/availability/today")
+    public ResponseEntity<byte[]> getTodayAvailability(WebRequest webRequest) {
+        log.info("GET /api/v1/availability/today");
+        return snapshot(webRequest, "availability-today", resourceVersionService.todayAvailabilityETag(),
+                AVAILABILITY_CACHE, AVAILABILITY_SNAPSHOT_MAX_AGE,
+                () -> Map.of("content", locationService.getTodayAvailability()));
+    }
+
+    /**
+     * Stream live availability of a location (today) as Server-Sent Events.
+     * Public endpoint - no authentication required.
+     */
+    @GetMapping(path = "/locations/{locationId}/availability/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAvailability(@PathVariable UUID locationId) {
+        log.info("GET /api/v1/locations/{}/availability/stream", locationId);
+        return liveUpdateService.subscribeAvailability(locationId);
     }
 
     /**
@@ -93,10 +163,10 @@ public class LocationController {
      * Public endpoint - no authentication required.
      */
     @GetMapping("/schedule")
-    public ResponseEntity<WeeklyScheduleResponse> getWeeklySchedule() {
+    public ResponseEntity<byte[]> getWeeklySchedule(WebRequest webRequest) {
         log.info("GET /api/v1/schedule");
-        WeeklyScheduleResponse schedule = locationService.getWeeklySchedule();
-        return ResponseEntity.ok(schedule);
+        return snapshot(webRequest, "schedule", resourceVersionService.catalogETag(), SCHEDULE_CACHE, null,
+                locationService::getWeeklySchedule);
     }
 
     /**
@@ -104,10 +174,10 @@ public class LocationController {
      * Public endpoint - no authentication required.
      */
     @GetMapping("/locations/today")
-    public ResponseEntity<Map<String, List<LocationResponse>>> getTodayLocations() {
+    public ResponseEntity<byte[]> getTodayLocations(WebRequest webRequest) {
         log.info("GET /api/v1/locations/today");
-        List<LocationResponse> locations = locationService.getTodayLocations();
-        return ResponseEntity.ok(Map.of("content", locations));
+        return snapshot(webRequest, "locations-today", resourceVersionService.todayCatalogETag(), LOCATIONS_CACHE,
+                null, () -> Map.of("content", locationService.getTodayLocations()));
     }
 
     // ==================== Admin Endpoints ====================
@@ -148,4 +218,44 @@ public class LocationController {
         ScheduleResponse schedule = locationService.createOrUpdateSchedule(locationId, request);
         return ResponseEntity.status(HttpStatus.CREATED).body(schedule);
     }
+
+    /**
+     * Answer 304 Not Modified if the client already has the current version, otherwise write the
+     * snapshot of that version. The ETag comes from in-memory counters, so a 304 needs no DB access.
+     * The gzipped representation has its own ETag.
+     *
+     * @param key    snapshot key, {@code null} to serialize the body without caching it
+     * @param maxAge how long a snapshot may be served for the same ETag, {@code null} for no limit
+     */
+    private ResponseEntity<byte[]> snapshot(
+            WebRequest webRequest,
+            String key,
+            String eTag,
+            CacheControl cacheControl,
+            Duration maxAge,
+            Supplier<?> body) {
+        boolean acceptsGzip = AcceptEncoding.accepts(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING), GZIP);
+        String representationETag = acceptsGzip ? eTag + "-" + GZIP : eTag;
+
+        if (webRequest.checkNotModified(representationETag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(representationETag)
+                    .cacheControl(cacheControl)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseSnapshotCache.Snapshot snapshot = key != null
+                ? responseSnapshotCache.get(key, eTag, maxAge, body)
+                : responseSnapshotCache.serialize(eTag, body.get());
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(representationETag)
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (acceptsGzip && snapshot.gzip() != null) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, GZIP).body(snapshot.gzip());
+        }
+        return response.body(snapshot.json());
+    }
 }
@@ -3,19 +3,28 @@ package org.example.foodtruckbookingservice.controller;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.foodtruckbookingservice.dto.request.BulkStatusUpdateRequest;
 import org.example.foodtruckbookingservice.dto.request.CreateReservationRequest;
 import org.example.foodtruckbookingservice.dto.request.SetInventoryRequest;
 import org.example.foodtruckbookingservice.dto.request.UpdateStatusRequest;
+import org.example.foodtruckbookingservice.dto.response.BulkStatusUpdateResponse;
 import org.example.foodtruckbookingservice.dto.response.CapacityResponse;
 import org.example.foodtruckbookingservice.dto.response.InventoryResponse;
 import org.example.foodtruckbookingservice.dto.response.ReservationResponse;
+import org.example.foodtruckbookingservice.dto.response.ReservationSliceResponse;
+import org.example.foodtruckbookingservice.entity.ReservationStatus;
+import org.example.foodtruckbookingservice.repository.ReservationFilter;
 import org.example.foodtruckbookingservice.service.InventoryService;
+import org.example.foodtruckbookingservice.service.LiveUpdateService;
+import org.example.foodtruckbookingservice.service.ReservationAdmissionService;
+import org.example.foodtruckbookingservice.service.ReservationSearchService;
 import org.example.foodtruckbookingservice.service.ReservationService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -27,9 +36,12 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -44,7 +56,10 @@ import java.util.UUID;
 public class ReservationController {
 
     private final ReservationService reservationService;
+    private final ReservationAdmissionService reservationAdmissionService;
+    private final ReservationSearchService reservationSearchService;
     private final InventoryService inventoryService;
+    private final LiveUpdateService liveUpdateService;
 
     // ==================== Public Endpoints ====================
 
@@ -58,7 +73,7 @@ public class ReservationController {
             @Valid @RequestBody CreateReservationRequest request) {
         log.info("POST /api/v1/reservations - location: {}, customer: {}",
                 request.getLocationId(), request.getCustomerName());
-        ReservationResponse reservation = reservationService.createReservation(request);
+        ReservationResponse reservation = reservationAdmissionService.submit(request);
         return ResponseEntity.status(HttpStatus.CREATED).body(reservation);
     }
 
@@ -114,6 +129,16 @@ public class ReservationController {
         return ResponseEntity.ok(reservations);
     }
 
+    /**
+     * Stream reservation and inventory changes of a location (today) as Server-Sent Events.
+     * Staff endpoint - requires ROLE_STAFF or ROLE_ADMIN.
+     */
+    @GetMapping(path = "/staff/reservations/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamStaffReservations(@RequestParam UUID locationId) {
+        log.info("GET /api/v1/staff/reservations/stream - location: {}", locationId);
+        return liveUpdateService.subscribeStaff(locationId);
+    }
+
     /**
      * Update reservation status.
      * Staff endpoint - requires ROLE_STAFF or ROLE_ADMIN.
@@ -128,6 +153,18 @@ public class ReservationController {
         return ResponseEntity.ok(reservation);
     }
 
+    /**
+     * Update the status of several reservations at once (pickups, closing the day).
+     * Staff endpoint - requires ROLE_STAFF or ROLE_ADMIN.
+     */
+    @PatchMapping("/staff/reservations/status")
+    public ResponseEntity<BulkStatusUpdateResponse> updateReservationStatuses(
+            @Valid @RequestBody BulkStatusUpdateRequest request) {
+        log.info("PATCH /api/v1/staff/reservations/status - updates: {}", request.getUpdates().size());
+        BulkStatusUpdateResponse response = reservationService.updateStatuses(request);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Get capacity for a location on a specific date.
      * Staff endpoint - requires ROLE_STAFF or ROLE_ADMIN.
@@ -194,4 +231,34 @@ public class ReservationController {
         }
         return ResponseEntity.ok(reservations);
     }
+
+    /**
+     * Stream reservation changes of all locations as Server-Sent Events.
+     * Admin endpoint - requires ROLE_ADMIN.
+     */
+    @GetMapping(path = "/admin/reservations/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAdminReservations() {
+        log.info("GET /api/v1/admin/reservations/stream");
+        return liveUpdateService.subscribeAdmin();
+    }
+
+    /**
+     * Search reservations with optional filters (keyset pagination, newest first).
+     * Admin endpoint - requires ROLE_ADMIN.
+     */
+    @GetMapping("/admin/reservations/search")
+    public ResponseEntity<ReservationSliceResponse> searchReservations(
+            @RequestParam(required = false) UUID locationId,
+            @RequestParam(required = false) Set<ReservationStatus> status,
+            @RequestParam(required = false) LocalDate dateFrom,
+            @RequestParam(required = false) LocalDate dateTo,
+            @RequestParam(required = false) LocalTime pickupFrom,
+            @RequestParam(required = false) LocalTime pickupTo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+        ReservationFilter filter = new ReservationFilter(locationId, status, dateFrom, dateTo, pickupFrom, pickupTo);
+        log.info("GET /api/v1/admin/reservations/search - {}, cursor: {}", filter, cursor);
+        return ResponseEntity.ok(reservationSearchService.search(filter, cursor, size, withTotal));
+    }
 }
@@ -0,0 +1,48 @@
+package org.example.foodtruckbookingservice.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.foodtruckbookingservice.entity.ReservationStatus;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Request DTO for changing the status of several reservations at once
+ * (e.g. pickups of the last minutes or closing the day).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusUpdateRequest {
+
+    @NotEmpty(message = "At least one update is required")
+    @Size(max = 200, message = "At most 200 updates per request")
+    private List<@Valid @NotNull Item> updates;
+
+    /**
+     * Status change of a single reservation.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+
+        @NotNull(message = "Reservation ID is required")
+        private UUID reservationId;
+
+        @NotNull(message = "Status is required")
+        private ReservationStatus status;
+
+        @Size(max = 500, message = "Notes must not exceed 500 characters")
+        private String notes;
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.foodtruckbookingservice.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.foodtruckbookingservice.entity.ReservationStatus;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Response DTO for a bulk status update with one result per requested change,
+ * in request order.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusUpdateResponse {
+
+    private List<Result> results;
+    private Integer updated;
+    private Integer rejected;
+
+    /**
+     * Outcome of a single status change.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Result {
+
+        private UUID reservationId;
+        private ReservationStatus status;
+
+        /**
+         * {@code UPDATED}, {@code RESERVATION_NOT_FOUND}, {@code INVALID_STATUS_TRANSITION}
+         * or {@code DUPLICATE}.
+         */
+        private String outcome;
+
+        /**
+         * The updated reservation, null if the change was rejected.
+         */
+        private ReservationResponse reservation;
+        private String message;
+    }
+}
@@ -48,6 +48,14 @@ public class InventoryResponse {
      */
     private Long reservationCount;
 
+    /**
+     * Number of reservations per status for the day.
+     */
+    private Long confirmedCount;
+    private Long completedCount;
+    private Long cancelledCount;
+    private Long noShowCount;
+
     /**
      * Utilization percentage ((reserved / total) * 100).
      */
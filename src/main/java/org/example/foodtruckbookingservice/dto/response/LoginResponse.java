@@ -0,0 +1,26 @@
+package org.example.foodtruckbookingservice.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Response DTO for a successful login.
+ * The token is sent as {@code Authorization: Bearer <token>} until it expires.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoginResponse {
+
+    private String username;
+    private String role;
+    private String token;
+    private String tokenType;
+    private Instant expiresAt;
+    private String message;
+}
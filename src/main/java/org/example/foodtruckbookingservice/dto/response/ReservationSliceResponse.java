@@ -0,0 +1,35 @@
+package org.example.foodtruckbookingservice.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO for one slice of the admin reservation search (keyset pagination).
+ * The next slice is requested with {@code cursor=<nextCursor>}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationSliceResponse {
+
+    private List<ReservationResponse> content;
+    private Integer size;
+    private Boolean hasNext;
+
+    /**
+     * Opaque position after the last reservation of this slice, null on the last slice.
+     */
+    private String nextCursor;
+
+    /**
+     * Number of matching reservations, only if requested with {@code withTotal=true}.
+     * Counting stops at a limit; above it this is the limit and {@code totalExact} is false.
+     */
+    private Long total;
+    private Boolean totalExact;
+}
@@ -4,8 +4,6 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -27,7 +25,12 @@ import java.util.UUID;
  * Entity representing the daily chicken inventory for a location.
  *
  * <p>Staff enters the total chickens available each morning.
- * Available capacity = totalChickens - sum of reserved chickens (CONFIRMED reservations).
+ * Available capacity = totalChickens - reservedChickens.
+ *
+ * <p>{@code reservedChickens} is a maintained counter of the chickens held by CONFIRMED
+ * reservations. It is only changed through the conditional bulk updates in
+ * {@link org.example.foodtruckbookingservice.repository.DailyInventoryRepository}
+ * and therefore excluded from entity updates.
  */
 @Entity
 @Table(name = "daily_inventory",
@@ -42,7 +45,7 @@ import java.util.UUID;
 public class DailyInventory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -55,6 +58,10 @@ public class DailyInventory {
     @Column(name = "total_chickens", nullable = false)
     private Integer totalChickens;
 
+    @Column(name = "reserved_chickens", nullable = false, updatable = false)
+    @Builder.Default
+    private Integer reservedChickens = 0;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
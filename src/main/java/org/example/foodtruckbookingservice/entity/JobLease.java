@@ -0,0 +1,38 @@
+package org.example.foodtruckbookingservice.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Lease of a scheduled job that must only run on one node at a time.
+ *
+ * <p>A node runs the job only after taking over the lease with a conditional update
+ * ({@link org.example.foodtruckbookingservice.repository.JobLeaseRepository}), which succeeds
+ * for exactly one node once the previous lease has expired.
+ */
+@Entity
+@Table(name = "job_lease")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobLease {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    @Column(nullable = false, length = 100)
+    private String owner;
+
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+}
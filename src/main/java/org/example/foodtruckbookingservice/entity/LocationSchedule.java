@@ -1,10 +1,9 @@
 package org.example.foodtruckbookingservice.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -14,6 +13,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalTime;
 import java.util.UUID;
@@ -23,8 +24,11 @@ import java.util.UUID;
  *
  * <p>Defines which days a location is open, with operating hours and daily capacity.
  * Uses ISO 8601 weekday numbering: 1=Monday, 7=Sunday.
+ * Kept in the second-level cache like {@link Location}.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "location-schedule")
 @Table(name = "location_schedule",
         uniqueConstraints = @UniqueConstraint(
                 name = "uk_location_schedule_location_day",
@@ -36,7 +40,7 @@ import java.util.UUID;
 public class LocationSchedule {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
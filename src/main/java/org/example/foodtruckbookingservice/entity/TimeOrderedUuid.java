@@ -0,0 +1,18 @@
+package org.example.foodtruckbookingservice.entity;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates the ID of a new entity as time-ordered UUID (version 7), see {@link TimeOrderedUuidGenerator}.
+ * Replaces {@code @GeneratedValue(strategy = GenerationType.UUID)}, which generates random (version 4) UUIDs.
+ */
+@IdGeneratorType(TimeOrderedUuidGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedUuid {
+}
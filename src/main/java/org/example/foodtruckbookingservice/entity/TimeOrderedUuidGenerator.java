@@ -0,0 +1,49 @@
+package org.example.foodtruckbookingservice.entity;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hibernate ID generator for time-ordered UUIDs (version 7, RFC 9562).
+ *
+ * <p>The first 48 bits are the Unix time in milliseconds, so new rows are appended at the right
+ * edge of the primary key B-tree instead of splitting random pages all over it, which keeps the
+ * index compact and its hot part in memory. The next 12 bits are a counter within the millisecond
+ * (RFC 9562 method 3), so IDs generated by this JVM are strictly increasing. The remaining
+ * 62 bits come from {@link SecureRandom}, so IDs stay unguessable like the previous random UUIDs.
+ *
+ * <p>Layout: {@code unix_ts_ms(48) | ver(4)=7 | counter(12) | var(2)=0b10 | random(62)}
+ */
+public class TimeOrderedUuidGenerator implements IdentifierGenerator {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    /**
+     * Last issued {@code unix_ts_ms << 12 | counter}. If more than 4096 IDs are requested within
+     * one millisecond, the counter carries into the timestamp, which then runs slightly ahead.
+     */
+    private static final AtomicLong LAST = new AtomicLong();
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return next();
+    }
+
+    /**
+     * @return a new time-ordered UUID
+     */
+    public static UUID next() {
+        long now = System.currentTimeMillis() << 12;
+        long timeAndCounter = LAST.updateAndGet(last -> Math.max(now, last + 1));
+
+        long mostSigBits = (timeAndCounter >>> 12) << 16   // unix_ts_ms
+                | 0x7000L                                   // version 7
+                | (timeAndCounter & 0xFFFL);                // counter
+        long leastSigBits = RANDOM.nextLong() >>> 2 | 0x8000_0000_0000_0000L; // variant 0b10
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
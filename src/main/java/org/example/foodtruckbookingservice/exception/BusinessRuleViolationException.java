@@ -2,18 +2,21 @@ package org.example.foodtruckbookingservice.exception;
 
 /**
  * Exception thrown when a business rule is violated.
+ *
+ * <p>Business rule violations are ordinary outcomes (e.g. location closed, not yet stocked) and are
+ * answered as 422 without a stack trace, so none is recorded. Without a stack trace and
+ * suppressed exceptions an instance is immutable and can be thrown repeatedly.
  */
 public class BusinessRuleViolationException extends RuntimeException {
 
     private final String ruleCode;
 
     public BusinessRuleViolationException(String message) {
-        super(message);
-        this.ruleCode = "GENERIC";
+        this(message, "GENERIC");
     }
 
     public BusinessRuleViolationException(String message, String ruleCode) {
-        super(message);
+        super(message, null, false, false);
         this.ruleCode = ruleCode;
     }
 
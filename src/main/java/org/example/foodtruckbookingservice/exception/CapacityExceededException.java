@@ -2,6 +2,7 @@ package org.example.foodtruckbookingservice.exception;
 
 /**
  * Exception thrown when chicken capacity is exceeded.
+ * Sold-out is an ordinary outcome, so no stack trace is recorded.
  */
 public class CapacityExceededException extends RuntimeException {
 
@@ -9,7 +10,7 @@ public class CapacityExceededException extends RuntimeException {
     private final int available;
 
     public CapacityExceededException(int requested, int available) {
-        super(String.format("Capacity exceeded. Requested: %d, Available: %d", requested, available));
+        super("Capacity exceeded. Requested: " + requested + ", Available: " + available, null, false, false);
         this.requested = requested;
         this.available = available;
     }
@@ -3,6 +3,8 @@ package org.example.foodtruckbookingservice.exception;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -15,20 +17,29 @@ import java.util.Map;
 
 /**
  * Global exception handler following RFC 7807 Problem Details format.
+ *
+ * <p>Rejected bookings (location not found, sold out, business rule) are ordinary outcomes at
+ * peak: they are logged at debug level only (counted by {@code reservation.create} per outcome)
+ * and their problem types are parsed once. The bodies themselves are built per response: they
+ * carry a timestamp, and Spring sets {@code instance} to the request path on the returned
+ * {@link ProblemDetail}, so a shared instance would be modified concurrently.
  */
 @Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
     private static final String ERROR_BASE_URI = "https://api.foodtruck-booking.de/errors/";
+    private static final URI NOT_FOUND_TYPE = URI.create(ERROR_BASE_URI + "not-found");
+    private static final URI CAPACITY_EXCEEDED_TYPE = URI.create(ERROR_BASE_URI + "capacity-exceeded");
+    private static final URI BUSINESS_RULE_VIOLATION_TYPE = URI.create(ERROR_BASE_URI + "business-rule-violation");
 
     @ExceptionHandler(LocationNotFoundException.class)
     public ProblemDetail handleLocationNotFound(LocationNotFoundException ex) {
-        log.warn("Location not found: {}", ex.getLocationId());
+        log.debug("Location not found: {}", ex.getLocationId());
         ProblemDetail problem = ProblemDetail.forStatusAndDetail(
                 HttpStatus.NOT_FOUND,
                 ex.getMessage());
-        problem.setType(URI.create(ERROR_BASE_URI + "not-found"));
+        problem.setType(NOT_FOUND_TYPE);
         problem.setTitle("Location Not Found");
         problem.setProperty("timestamp", Instant.now());
         problem.setProperty("locationId", ex.getLocationId());
@@ -41,7 +52,7 @@ public class GlobalExceptionHandler {
         ProblemDetail problem = ProblemDetail.forStatusAndDetail(
                 HttpStatus.NOT_FOUND,
                 ex.getMessage());
-        problem.setType(URI.create(ERROR_BASE_URI + "not-found"));
+        problem.setType(NOT_FOUND_TYPE);
         problem.setTitle("Reservation Not Found");
         problem.setProperty("timestamp", Instant.now());
         problem.setProperty("reservationId", ex.getReservationId());
@@ -50,11 +61,11 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(CapacityExceededException.class)
     public ProblemDetail handleCapacityExceeded(CapacityExceededException ex) {
-        log.warn("Capacity exceeded: requested={}, available={}", ex.getRequested(), ex.getAvailable());
+        log.debug("Capacity exceeded: requested={}, available={}", ex.getRequested(), ex.getAvailable());
         ProblemDetail problem = ProblemDetail.forStatusAndDetail(
                 HttpStatus.CONFLICT,
                 ex.getMessage());
-        problem.setType(URI.create(ERROR_BASE_URI + "capacity-exceeded"));
+        problem.setType(CAPACITY_EXCEEDED_TYPE);
         problem.setTitle("Capacity Exceeded");
         problem.setProperty("timestamp", Instant.now());
         problem.setProperty("requested", ex.getRequested());
@@ -78,11 +89,11 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(BusinessRuleViolationException.class)
     public ProblemDetail handleBusinessRuleViolation(BusinessRuleViolationException ex) {
-        log.warn("Business rule violation: {}", ex.getMessage());
+        log.debug("Business rule violation: {}", ex.getMessage());
         ProblemDetail problem = ProblemDetail.forStatusAndDetail(
                 HttpStatus.UNPROCESSABLE_ENTITY,
                 ex.getMessage());
-        problem.setType(URI.create(ERROR_BASE_URI + "business-rule-violation"));
+        problem.setType(BUSINESS_RULE_VIOLATION_TYPE);
         problem.setTitle("Business Rule Violation");
         problem.setProperty("timestamp", Instant.now());
         problem.setProperty("ruleCode", ex.getRuleCode());
@@ -102,6 +113,46 @@ public class GlobalExceptionHandler {
         return problem;
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ProblemDetail handleServiceUnavailable(ServiceUnavailableException ex) {
+        log.warn("Service unavailable: {}", ex.getMessage());
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                ex.getMessage());
+        problem.setType(URI.create(ERROR_BASE_URI + "service-unavailable"));
+        problem.setTitle("Service Unavailable");
+        problem.setProperty("timestamp", Instant.now());
+        return problem;
+    }
+
+    /**
+     * No database connection within the Hikari connection-timeout - the pool is the concurrency
+     * limit (see profile virtual-threads), so this is overload, not an error.
+     */
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ProblemDetail handleNoConnection(CannotCreateTransactionException ex) {
+        log.warn("No database connection available: {}", ex.getMessage());
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                "Der Service ist gerade ausgelastet, bitte erneut versuchen");
+        problem.setType(URI.create(ERROR_BASE_URI + "service-unavailable"));
+        problem.setTitle("Service Unavailable");
+        problem.setProperty("timestamp", Instant.now());
+        return problem;
+    }
+
+    @ExceptionHandler(AuthenticationException.class)
+    public ProblemDetail handleAuthenticationFailed(AuthenticationException ex) {
+        log.warn("Login failed: {}", ex.getMessage());
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(
+                HttpStatus.UNAUTHORIZED,
+                "Ungültige Anmeldedaten");
+        problem.setType(URI.create(ERROR_BASE_URI + "unauthorized"));
+        problem.setTitle("Unauthorized");
+        problem.setProperty("timestamp", Instant.now());
+        return problem;
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ProblemDetail handleValidationErrors(MethodArgumentNotValidException ex) {
         log.warn("Validation failed: {}", ex.getMessage());
@@ -4,13 +4,14 @@ import java.util.UUID;
 
 /**
  * Exception thrown when a location is not found.
+ * Answered as 404 without a stack trace, so none is recorded.
  */
 public class LocationNotFoundException extends RuntimeException {
 
     private final UUID locationId;
 
     public LocationNotFoundException(UUID locationId) {
-        super("Location not found with id: " + locationId);
+        super("Location not found with id: " + locationId, null, false, false);
         this.locationId = locationId;
     }
 
@@ -0,0 +1,28 @@
+package org.example.foodtruckbookingservice.exception;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Exception thrown when reservations of a location-day change while they are swept as NO_SHOW.
+ * The sweep of that location-day is rolled back and retried on the next run.
+ */
+public class NoShowSweepConflictException extends RuntimeException {
+
+    private final UUID locationId;
+    private final LocalDate date;
+
+    public NoShowSweepConflictException(UUID locationId, LocalDate date) {
+        super("Reservations of location " + locationId + " on " + date + " changed during the no-show sweep");
+        this.locationId = locationId;
+        this.date = date;
+    }
+
+    public UUID getLocationId() {
+        return locationId;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.foodtruckbookingservice.exception;
+
+/**
+ * Exception thrown when a request cannot be handled right now because the service is overloaded
+ * or shutting down. Clients may retry.
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+
+    public ServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
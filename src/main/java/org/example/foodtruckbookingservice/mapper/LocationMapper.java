@@ -6,6 +6,7 @@ import org.example.foodtruckbookingservice.dto.response.LocationWithScheduleResp
 import org.example.foodtruckbookingservice.dto.response.ScheduleResponse;
 import org.example.foodtruckbookingservice.entity.Location;
 import org.example.foodtruckbookingservice.entity.LocationSchedule;
+import org.example.foodtruckbookingservice.service.Timetable;
 import org.springframework.stereotype.Component;
 
 import java.time.DayOfWeek;
@@ -38,6 +39,25 @@ public class LocationMapper {
                 .build();
     }
 
+    /**
+     * Convert a timetable entry to LocationResponse DTO.
+     */
+    public LocationResponse toResponse(Timetable.Entry entry) {
+        if (entry == null) {
+            return null;
+        }
+        return LocationResponse.builder()
+                .id(entry.id())
+                .name(entry.name())
+                .address(entry.address())
+                .latitude(entry.latitude())
+                .longitude(entry.longitude())
+                .active(entry.active())
+                .createdAt(entry.createdAt())
+                .updatedAt(entry.updatedAt())
+                .build();
+    }
+
     /**
      * Convert CreateLocationRequest DTO to Location entity.
      */
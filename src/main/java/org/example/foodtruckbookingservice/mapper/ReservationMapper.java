@@ -5,9 +5,12 @@ import org.example.foodtruckbookingservice.dto.response.ReservationResponse;
 import org.example.foodtruckbookingservice.entity.Location;
 import org.example.foodtruckbookingservice.entity.Reservation;
 import org.example.foodtruckbookingservice.entity.ReservationStatus;
+import org.example.foodtruckbookingservice.repository.ReservationRow;
+import org.example.foodtruckbookingservice.service.Timetable;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
+import java.util.UUID;
 
 /**
  * Mapper for Reservation entity and DTOs.
@@ -25,12 +28,58 @@ public class ReservationMapper {
 
         Location location = entity.getLocation();
 
+        return toResponse(entity,
+                location != null ? location.getId() : null,
+                location != null ? location.getName() : null,
+                location != null ? location.getAddress() : null);
+    }
+
+    /**
+     * Convert a new Reservation entity to ReservationResponse DTO, taking location details
+     * from the timetable so the (not loaded) location reference is not initialized.
+     */
+    public ReservationResponse toResponse(Reservation entity, Timetable.Entry location) {
+        if (entity == null) {
+            return null;
+        }
+        return toResponse(entity, location.id(), location.name(), location.address());
+    }
+
+    /**
+     * Convert a ReservationRow projection (listings) to ReservationResponse DTO.
+     */
+    public ReservationResponse toResponse(ReservationRow row) {
+        if (row == null) {
+            return null;
+        }
+        return ReservationResponse.builder()
+                .id(row.id())
+                .confirmationCode(row.confirmationCode())
+                .locationId(row.locationId())
+                .locationName(row.locationName())
+                .locationAddress(row.locationAddress())
+                .customerName(row.customerName())
+                .customerEmail(row.customerEmail())
+                .chickenCount(row.chickenCount())
+                .friesCount(row.friesCount())
+                .reservationDate(row.reservationDate())
+                .pickupTime(row.pickupTime())
+                .status(row.status())
+                .notes(row.notes())
+                .createdAt(row.createdAt())
+                .updatedAt(row.updatedAt())
+                .canCancel(row.status().canCancel())
+                .build();
+    }
+
+    private ReservationResponse toResponse(
+            Reservation entity, UUID locationId, String locationName, String locationAddress) {
         return ReservationResponse.builder()
                 .id(entity.getId())
                 .confirmationCode(entity.getConfirmationCode())
-                .locationId(location != null ? location.getId() : null)
-                .locationName(location != null ? location.getName() : null)
-                .locationAddress(location != null ? location.getAddress() : null)
+                .locationId(locationId)
+                .locationName(locationName)
+                .locationAddress(locationAddress)
                 .customerName(entity.getCustomerName())
                 .customerEmail(entity.getCustomerEmail())
                 .chickenCount(entity.getChickenCount())
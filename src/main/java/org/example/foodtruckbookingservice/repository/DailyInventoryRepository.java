@@ -1,10 +1,17 @@
 package org.example.foodtruckbookingservice.repository;
 
+import jakarta.persistence.LockModeType;
 import org.example.foodtruckbookingservice.entity.DailyInventory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -31,4 +38,195 @@ public interface DailyInventoryRepository extends JpaRepository<DailyInventory,
      * @return true if inventory exists
      */
     boolean existsByLocationIdAndDate(UUID locationId, LocalDate date);
+
+    /**
+     * Select and joins of {@link InventorySnapshot}, completed by a WHERE clause on {@code l}
+     * and {@link #SNAPSHOT_GROUP_BY}.
+     */
+    String SNAPSHOT_SELECT = "SELECT new org.example.foodtruckbookingservice.repository.InventorySnapshot(" +
+            "l.id, l.name, l.active, " +
+            "i.id, i.totalChickens, i.reservedChickens, i.createdAt, i.updatedAt, " +
+            "COUNT(r.id), " +
+            "SUM(CASE WHEN r.status = org.example.foodtruckbookingservice.entity.ReservationStatus.CONFIRMED THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN r.status = org.example.foodtruckbookingservice.entity.ReservationStatus.COMPLETED THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN r.status = org.example.foodtruckbookingservice.entity.ReservationStatus.CANCELLED THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN r.status = org.example.foodtruckbookingservice.entity.ReservationStatus.NO_SHOW THEN 1 ELSE 0 END)) " +
+            "FROM Location l " +
+            "LEFT JOIN DailyInventory i ON i.location.id = l.id AND i.date = :date " +
+            "LEFT JOIN Reservation r ON r.location.id = l.id AND r.reservationDate = :date ";
+
+    String SNAPSHOT_GROUP_BY = " GROUP BY l.id, l.name, l.active, " +
+            "i.id, i.totalChickens, i.reservedChickens, i.createdAt, i.updatedAt";
+
+    /**
+     * Load location, inventory and reservation counts of a location-day in a single statement.
+     *
+     * @param locationId the location ID
+     * @param date       the date
+     * @return the snapshot, empty if the location does not exist
+     */
+    @Query(SNAPSHOT_SELECT + "WHERE l.id = :locationId" + SNAPSHOT_GROUP_BY)
+    Optional<InventorySnapshot> findSnapshot(
+            @Param("locationId") UUID locationId,
+            @Param("date") LocalDate date);
+
+    /**
+     * Load the snapshots of several locations for the same day in a single statement.
+     *
+     * @param locationIds the location IDs
+     * @param date        the date
+     * @return one snapshot per existing location (unordered)
+     */
+    @Query(SNAPSHOT_SELECT + "WHERE l.id IN :locationIds" + SNAPSHOT_GROUP_BY)
+    List<InventorySnapshot> findSnapshots(
+            @Param("locationIds") Collection<UUID> locationIds,
+            @Param("date") LocalDate date);
+
+    /**
+     * Set the total chickens of an existing inventory.
+     * The reserved counter is left untouched.
+     *
+     * @param inventoryId   the inventory ID
+     * @param totalChickens the new total
+     * @return number of updated rows
+     */
+    @Modifying
+    @Query("UPDATE DailyInventory i SET i.totalChickens = :totalChickens, i.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE i.id = :inventoryId")
+    int updateTotalChickens(
+            @Param("inventoryId") UUID inventoryId,
+            @Param("totalChickens") int totalChickens);
+
+    /**
+     * Find and lock inventory for a location on a specific date (SELECT ... FOR UPDATE).
+     * Used by batched bookings to decide a whole batch against a stable remaining stock.
+     *
+     * @param locationId the location ID
+     * @param date       the date
+     * @return optional inventory entry, locked until the end of the transaction
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM DailyInventory i WHERE i.location.id = :locationId AND i.date = :date")
+    Optional<DailyInventory> findForUpdate(
+            @Param("locationId") UUID locationId,
+            @Param("date") LocalDate date);
+
+    /**
+     * Claim chickens for a new reservation.
+     * Increments the reserved counter only if enough chickens are left, so the
+     * check and the claim happen atomically in one statement. Claiming no chickens
+     * (fries-only orders) always succeeds while inventory is set, even if the total was
+     * lowered below what is already reserved.
+     *
+     * @param locationId the location ID
+     * @param date       the date
+     * @param count      chickens to claim
+     * @return 1 if claimed, 0 if no inventory is set or not enough chickens are left
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE DailyInventory i SET i.reservedChickens = i.reservedChickens + :count, " +
+            "i.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE i.location.id = :locationId " +
+            "AND i.date = :date " +
+            "AND (:count = 0 OR i.totalChickens - i.reservedChickens >= :count)")
+    int claimChickens(
+            @Param("locationId") UUID locationId,
+            @Param("date") LocalDate date,
+            @Param("count") int count);
+
+    /**
+     * Release chickens of a reservation that will not be picked up (CANCELLED, NO_SHOW).
+     *
+     * @param locationId the location ID
+     * @param date       the date
+     * @param count      chickens to release
+     * @return 1 if released, 0 if no inventory row matched or the counter would go negative
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE DailyInventory i SET i.reservedChickens = i.reservedChickens - :count, " +
+            "i.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE i.location.id = :locationId " +
+            "AND i.date = :date " +
+            "AND i.reservedChickens >= :count")
+    int releaseChickens(
+            @Param("locationId") UUID locationId,
+            @Param("date") LocalDate date,
+            @Param("count") int count);
+
+    /**
+     * Consume chickens of a COMPLETED reservation (picked up).
+     * Removes them from both the total and the reserved counter, so availability stays the same.
+     *
+     * @param locationId the location ID
+     * @param date       the date
+     * @param count      chickens picked up
+     * @return 1 if consumed, 0 if no inventory is set
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE DailyInventory i SET " +
+            "i.totalChickens = CASE WHEN i.totalChickens >= :count THEN i.totalChickens - :count ELSE 0 END, " +
+            "i.reservedChickens = CASE WHEN i.reservedChickens >= :count THEN i.reservedChickens - :count ELSE 0 END, " +
+            "i.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE i.location.id = :locationId " +
+            "AND i.date = :date")
+    int consumeChickens(
+            @Param("locationId") UUID locationId,
+            @Param("date") LocalDate date,
+            @Param("count") int count);
+
+    /**
+     * Release and consume chickens of several reservations in one update
+     * (bulk status change). Both counters are clamped at 0, drift is left to the reconciliation.
+     *
+     * @param locationId the location ID
+     * @param date       the date
+     * @param released   chickens of reservations that will not be picked up (CANCELLED, NO_SHOW)
+     * @param consumed   chickens picked up (COMPLETED)
+     * @return 1 if updated, 0 if no inventory is set
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE DailyInventory i SET " +
+            "i.totalChickens = CASE WHEN i.totalChickens >= :consumed THEN i.totalChickens - :consumed ELSE 0 END, " +
+            "i.reservedChickens = CASE WHEN i.reservedChickens >= :released + :consumed " +
+            "THEN i.reservedChickens - :released - :consumed ELSE 0 END, " +
+            "i.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE i.location.id = :locationId " +
+            "AND i.date = :date")
+    int settleChickens(
+            @Param("locationId") UUID locationId,
+            @Param("date") LocalDate date,
+            @Param("released") int released,
+            @Param("consumed") int consumed);
+
+    /**
+     * Re-derive the reserved counter from CONFIRMED reservations for all inventories of a date.
+     * Used by the reconciliation job to detect drift.
+     *
+     * @param date the date
+     * @return one row per inventory with counter and derived value
+     */
+    @Query("SELECT new org.example.foodtruckbookingservice.repository.ReservedChickensDrift(" +
+            "i.id, i.location.id, i.date, i.reservedChickens, " +
+            "(SELECT COALESCE(SUM(r.chickenCount), 0) FROM Reservation r " +
+            " WHERE r.location.id = i.location.id AND r.reservationDate = i.date " +
+            " AND r.status = org.example.foodtruckbookingservice.entity.ReservationStatus.CONFIRMED)) " +
+            "FROM DailyInventory i WHERE i.date = :date")
+    List<ReservedChickensDrift> findReservedChickensByDate(@Param("date") LocalDate date);
+
+    /**
+     * Overwrite the reserved counter with a re-derived value.
+     * Only applies if the counter still has the value the drift was computed from.
+     *
+     * @param inventoryId the inventory ID
+     * @param expected    the counter value seen when computing the drift
+     * @param actual      the re-derived value
+     * @return 1 if corrected, 0 if the counter changed in the meantime
+     */
+    @Modifying
+    @Query("UPDATE DailyInventory i SET i.reservedChickens = :actual, i.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE i.id = :inventoryId AND i.reservedChickens = :expected")
+    int correctReservedChickens(
+            @Param("inventoryId") UUID inventoryId,
+            @Param("expected") int expected,
+            @Param("actual") int actual);
 }
@@ -0,0 +1,69 @@
+package org.example.foodtruckbookingservice.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Everything inventory reads need for one location-day, loaded in one statement
+ * by {@link DailyInventoryRepository#findSnapshot}.
+ *
+ * @param locationId         the location ID
+ * @param locationName       the location name
+ * @param locationActive     whether the location is active
+ * @param inventoryId        the daily inventory ID, null if no inventory is set
+ * @param totalChickens      total chickens entered by staff, null if no inventory is set
+ * @param reservedChickens   chickens held by CONFIRMED reservations, null if no inventory is set
+ * @param inventoryCreatedAt when the inventory was created
+ * @param inventoryUpdatedAt when the inventory was last updated
+ * @param reservationCount   number of reservations of the day (all statuses)
+ * @param confirmedCount     number of CONFIRMED reservations
+ * @param completedCount     number of COMPLETED reservations
+ * @param cancelledCount     number of CANCELLED reservations
+ * @param noShowCount        number of NO_SHOW reservations
+ */
+public record InventorySnapshot(
+        UUID locationId,
+        String locationName,
+        Boolean locationActive,
+        UUID inventoryId,
+        Integer totalChickens,
+        Integer reservedChickens,
+        LocalDateTime inventoryCreatedAt,
+        LocalDateTime inventoryUpdatedAt,
+        Long reservationCount,
+        Long confirmedCount,
+        Long completedCount,
+        Long cancelledCount,
+        Long noShowCount) {
+
+    /**
+     * Copy of this snapshot with different inventory values (after the inventory was written).
+     *
+     * @return the updated snapshot
+     */
+    public InventorySnapshot withInventory(
+            UUID inventoryId,
+            Integer totalChickens,
+            Integer reservedChickens,
+            LocalDateTime inventoryCreatedAt,
+            LocalDateTime inventoryUpdatedAt) {
+        return new InventorySnapshot(
+                locationId, locationName, locationActive,
+                inventoryId, totalChickens, reservedChickens, inventoryCreatedAt, inventoryUpdatedAt,
+                reservationCount, confirmedCount, completedCount, cancelledCount, noShowCount);
+    }
+
+    /**
+     * @return true if staff entered the inventory for the day
+     */
+    public boolean isInventorySet() {
+        return inventoryId != null;
+    }
+
+    /**
+     * @return chickens still available (0 if no inventory is set)
+     */
+    public int availableChickens() {
+        return isInventorySet() ? Math.max(0, totalChickens - reservedChickens) : 0;
+    }
+}
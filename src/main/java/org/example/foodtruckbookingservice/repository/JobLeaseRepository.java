@@ -0,0 +1,51 @@
+package org.example.foodtruckbookingservice.repository;
+
+import org.example.foodtruckbookingservice.entity.JobLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repository for JobLease entity operations.
+ */
+@Repository
+public interface JobLeaseRepository extends JpaRepository<JobLease, String> {
+
+    /**
+     * Create the lease of a job that never ran, unless another node just created it.
+     *
+     * @param name        the job name
+     * @param owner       the node taking the lease
+     * @param lockedUntil end of the lease
+     * @return 1 if created, 0 if the lease already exists
+     */
+    @Modifying
+    @Query(value = "INSERT INTO job_lease (name, owner, locked_until) VALUES (:name, :owner, :lockedUntil) " +
+            "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int create(
+            @Param("name") String name,
+            @Param("owner") String owner,
+            @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    /**
+     * Take over an expired lease, or extend one this node already holds.
+     *
+     * @param name        the job name
+     * @param owner       the node taking the lease
+     * @param now         the current time
+     * @param lockedUntil end of the lease
+     * @return 1 if taken, 0 if another node holds the lease
+     */
+    @Modifying
+    @Query("UPDATE JobLease l SET l.owner = :owner, l.lockedUntil = :lockedUntil " +
+            "WHERE l.name = :name AND (l.lockedUntil < :now OR l.owner = :owner)")
+    int takeOver(
+            @Param("name") String name,
+            @Param("owner") String owner,
+            @Param("now") LocalDateTime now,
+            @Param("lockedUntil") LocalDateTime lockedUntil);
+}
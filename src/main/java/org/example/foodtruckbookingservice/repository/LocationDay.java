@@ -0,0 +1,13 @@
+package org.example.foodtruckbookingservice.repository;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * A location on a date, the unit of inventory and of daily reservation handling.
+ *
+ * @param locationId the location ID
+ * @param date       the date
+ */
+public record LocationDay(UUID locationId, LocalDate date) {
+}
@@ -1,7 +1,10 @@
 package org.example.foodtruckbookingservice.repository;
 
+import jakarta.persistence.QueryHint;
 import org.example.foodtruckbookingservice.entity.Location;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -15,10 +18,11 @@ import java.util.UUID;
 public interface LocationRepository extends JpaRepository<Location, UUID> {
 
     /**
-     * Find all active locations.
+     * Find all active locations. The result is kept in the query cache until a location changes.
      *
      * @return list of active locations
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Location> findByActiveTrue();
 
     /**
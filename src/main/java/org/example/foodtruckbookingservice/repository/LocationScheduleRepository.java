@@ -1,8 +1,11 @@
 package org.example.foodtruckbookingservice.repository;
 
+import jakarta.persistence.QueryHint;
 import org.example.foodtruckbookingservice.entity.LocationSchedule;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -31,6 +34,13 @@ public interface LocationScheduleRepository extends JpaRepository<LocationSchedu
      */
     List<LocationSchedule> findByLocationIdAndActiveTrue(UUID locationId);
 
+    /**
+     * Find all active schedules (of active and inactive locations).
+     *
+     * @return list of active schedules
+     */
+    List<LocationSchedule> findByActiveTrue();
+
     /**
      * Find schedule for a specific location and day of week.
      *
@@ -61,9 +71,11 @@ public interface LocationScheduleRepository extends JpaRepository<LocationSchedu
     /**
      * Find all active schedules with their locations eagerly loaded.
      * Only returns schedules where both schedule and location are active.
+     * The result is kept in the query cache until a schedule or location changes.
      *
      * @return list of active schedules with locations
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT s FROM LocationSchedule s JOIN FETCH s.location l WHERE s.active = true AND l.active = true")
     List<LocationSchedule> findAllActiveWithLocation();
 
@@ -0,0 +1,27 @@
+package org.example.foodtruckbookingservice.repository;
+
+import org.example.foodtruckbookingservice.entity.ReservationStatus;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Optional filters of the admin reservation search. Null (or empty) values do not filter.
+ *
+ * @param locationId the location ID
+ * @param statuses   the statuses to include
+ * @param dateFrom   first reservation date (inclusive)
+ * @param dateTo     last reservation date (inclusive)
+ * @param pickupFrom earliest pickup time (inclusive), excludes reservations without pickup time
+ * @param pickupTo   latest pickup time (inclusive), excludes reservations without pickup time
+ */
+public record ReservationFilter(
+        UUID locationId,
+        Set<ReservationStatus> statuses,
+        LocalDate dateFrom,
+        LocalDate dateTo,
+        LocalTime pickupFrom,
+        LocalTime pickupTo) {
+}
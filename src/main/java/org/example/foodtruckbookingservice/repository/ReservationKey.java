@@ -0,0 +1,15 @@
+package org.example.foodtruckbookingservice.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Keyset position in the admin reservation search, which is ordered by
+ * {@code (created_at, id)} descending. The ID breaks ties between reservations
+ * created at the same instant.
+ *
+ * @param createdAt creation time of the last reservation of the previous slice
+ * @param id        ID of the last reservation of the previous slice
+ */
+public record ReservationKey(LocalDateTime createdAt, UUID id) {
+}
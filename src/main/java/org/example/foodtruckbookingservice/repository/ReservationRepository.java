@@ -5,11 +5,14 @@ import org.example.foodtruckbookingservice.entity.ReservationStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -19,11 +22,14 @@ import java.util.UUID;
  * Repository for Reservation entity operations.
  */
 @Repository
-public interface ReservationRepository extends JpaRepository<Reservation, UUID> {
+public interface ReservationRepository extends JpaRepository<Reservation, UUID>, ReservationSearchRepository {
 
     /**
      * Find reservation by confirmation code.
      *
+     * <p>On PostgreSQL the table is partitioned by reservation date (V9) and the code is unique per
+     * date only, so this looks up the code index of every partition, one index probe per month kept.
+     *
      * @param confirmationCode the confirmation code (e.g., "HUHNK4M7")
      * @return optional reservation
      */
@@ -37,20 +43,114 @@ public interface ReservationRepository extends JpaRepository<Reservation, UUID>
      */
     boolean existsByConfirmationCode(String confirmationCode);
 
+    /**
+     * Allocate the next block of confirmation code sequence numbers.
+     * Not read-only: nextval() is rejected in read-only transactions.
+     *
+     * @return the first sequence number of the block
+     */
+    @Transactional
+    @Query(value = "SELECT nextval('confirmation_code_seq')", nativeQuery = true)
+    long nextConfirmationCodeBlock();
+
+    /**
+     * Select and join of {@link ReservationRow}, completed by a WHERE and/or ORDER BY clause on {@code r}.
+     */
+    String ROW_SELECT = "SELECT new org.example.foodtruckbookingservice.repository.ReservationRow(" +
+            "r.id, r.confirmationCode, l.id, l.name, l.address, r.customerName, r.customerEmail, " +
+            "r.chickenCount, r.friesCount, r.reservationDate, r.pickupTime, r.status, r.notes, " +
+            "r.createdAt, r.updatedAt) " +
+            "FROM Reservation r JOIN r.location l ";
+
     /**
      * Find all reservations for a location on a specific date.
      * Used for daily reservation views.
      *
      * @param locationId      the location ID
      * @param reservationDate the date
-     * @return list of reservations ordered by pickup time (nulls last)
+     * @return reservations ordered by pickup time (nulls last)
      */
-    @Query("SELECT r FROM Reservation r WHERE r.location.id = :locationId " +
+    @Query(ROW_SELECT + "WHERE l.id = :locationId " +
             "AND r.reservationDate = :date ORDER BY r.pickupTime ASC NULLS LAST")
-    List<Reservation> findByLocationIdAndDate(
+    List<ReservationRow> findRowsByLocationIdAndDate(
             @Param("locationId") UUID locationId,
             @Param("date") LocalDate reservationDate);
 
+    /**
+     * Find reservations by ID.
+     *
+     * @param ids the reservation IDs
+     * @return the existing reservations (unordered)
+     */
+    @Query(ROW_SELECT + "WHERE r.id IN :ids")
+    List<ReservationRow> findRowsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Change the status of several reservations that are still in the expected status.
+     *
+     * @param ids           the reservation IDs
+     * @param currentStatus the status the reservations must still have
+     * @param status        the new status
+     * @param updatedAt     the modification time
+     * @return number of updated reservations
+     */
+    @Modifying
+    @Query("UPDATE Reservation r SET r.status = :status, r.updatedAt = :updatedAt " +
+            "WHERE r.id IN :ids AND r.status = :currentStatus")
+    int updateStatus(
+            @Param("ids") Collection<UUID> ids,
+            @Param("currentStatus") ReservationStatus currentStatus,
+            @Param("status") ReservationStatus status,
+            @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Change the status and notes of several reservations that are still in the expected status.
+     *
+     * @param ids           the reservation IDs
+     * @param currentStatus the status the reservations must still have
+     * @param status        the new status
+     * @param notes         the new notes
+     * @param updatedAt     the modification time
+     * @return number of updated reservations
+     */
+    @Modifying
+    @Query("UPDATE Reservation r SET r.status = :status, r.notes = :notes, r.updatedAt = :updatedAt " +
+            "WHERE r.id IN :ids AND r.status = :currentStatus")
+    int updateStatusAndNotes(
+            @Param("ids") Collection<UUID> ids,
+            @Param("currentStatus") ReservationStatus currentStatus,
+            @Param("status") ReservationStatus status,
+            @Param("notes") String notes,
+            @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Find the location-days that have reservations in a status, up to a date.
+     *
+     * @param status the status
+     * @param date   the last date (inclusive)
+     * @return the location-days (unordered)
+     */
+    @Query("SELECT DISTINCT new org.example.foodtruckbookingservice.repository.LocationDay(" +
+            "r.location.id, r.reservationDate) FROM Reservation r " +
+            "WHERE r.status = :status AND r.reservationDate <= :date")
+    List<LocationDay> findLocationDaysByStatus(
+            @Param("status") ReservationStatus status,
+            @Param("date") LocalDate date);
+
+    /**
+     * Find the reservations of a location-day in a status.
+     *
+     * @param locationId the location ID
+     * @param date       the reservation date
+     * @param status     the status
+     * @return the reservations (unordered)
+     */
+    @Query(ROW_SELECT + "WHERE l.id = :locationId AND r.reservationDate = :date AND r.status = :status")
+    List<ReservationRow> findRowsByLocationIdAndDateAndStatus(
+            @Param("locationId") UUID locationId,
+            @Param("date") LocalDate date,
+            @Param("status") ReservationStatus status);
+
     /**
      * Find reservations for a location on a date with specific statuses.
      * Used for capacity calculation (only CONFIRMED counts).
@@ -80,7 +180,9 @@ public interface ReservationRepository extends JpaRepository<Reservation, UUID>
      * @param pageable   pagination info
      * @return page of reservations
      */
-    Page<Reservation> findByLocationId(UUID locationId, Pageable pageable);
+    @Query(value = ROW_SELECT + "WHERE l.id = :locationId",
+            countQuery = "SELECT COUNT(r) FROM Reservation r WHERE r.location.id = :locationId")
+    Page<ReservationRow> findRowsByLocationId(@Param("locationId") UUID locationId, Pageable pageable);
 
     /**
      * Find all reservations (paginated).
@@ -88,7 +190,8 @@ public interface ReservationRepository extends JpaRepository<Reservation, UUID>
      * @param pageable pagination info
      * @return page of reservations
      */
-    Page<Reservation> findAll(Pageable pageable);
+    @Query(value = ROW_SELECT, countQuery = "SELECT COUNT(r) FROM Reservation r")
+    Page<ReservationRow> findRows(Pageable pageable);
 
     /**
      * Calculate total chicken count for a location on a specific date.
@@ -139,7 +242,9 @@ public interface ReservationRepository extends JpaRepository<Reservation, UUID>
      * @param pageable        pagination info
      * @return page of reservations
      */
-    Page<Reservation> findByReservationDate(LocalDate reservationDate, Pageable pageable);
+    @Query(value = ROW_SELECT + "WHERE r.reservationDate = :date",
+            countQuery = "SELECT COUNT(r) FROM Reservation r WHERE r.reservationDate = :date")
+    Page<ReservationRow> findRowsByReservationDate(@Param("date") LocalDate reservationDate, Pageable pageable);
 
     /**
      * Find all reservations for a location on a date (paginated).
@@ -150,5 +255,11 @@ public interface ReservationRepository extends JpaRepository<Reservation, UUID>
      * @param pageable        pagination info
      * @return page of reservations
      */
-    Page<Reservation> findByLocationIdAndReservationDate(UUID locationId, LocalDate reservationDate, Pageable pageable);
+    @Query(value = ROW_SELECT + "WHERE l.id = :locationId AND r.reservationDate = :date",
+            countQuery = "SELECT COUNT(r) FROM Reservation r " +
+                    "WHERE r.location.id = :locationId AND r.reservationDate = :date")
+    Page<ReservationRow> findRowsByLocationIdAndReservationDate(
+            @Param("locationId") UUID locationId,
+            @Param("date") LocalDate reservationDate,
+            Pageable pageable);
 }
@@ -0,0 +1,59 @@
+package org.example.foodtruckbookingservice.repository;
+
+import org.example.foodtruckbookingservice.entity.ReservationStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * Read-only view of a reservation with its location, loaded by the listing queries of
+ * {@link ReservationRepository} in one statement. No entity is managed, so listings cause
+ * neither lazy loading of the location nor dirty-checking snapshots.
+ *
+ * @param id               the reservation ID
+ * @param confirmationCode the confirmation code
+ * @param locationId       the location ID
+ * @param locationName     the location name
+ * @param locationAddress  the location address
+ * @param customerName     the customer name
+ * @param customerEmail    the customer email
+ * @param chickenCount     the reserved chickens
+ * @param friesCount       the reserved fries
+ * @param reservationDate  the reservation date
+ * @param pickupTime       the pickup time, null if not specified
+ * @param status           the status
+ * @param notes            the notes
+ * @param createdAt        when the reservation was created
+ * @param updatedAt        when the reservation was last updated
+ */
+public record ReservationRow(
+        UUID id,
+        String confirmationCode,
+        UUID locationId,
+        String locationName,
+        String locationAddress,
+        String customerName,
+        String customerEmail,
+        Integer chickenCount,
+        Integer friesCount,
+        LocalDate reservationDate,
+        LocalTime pickupTime,
+        ReservationStatus status,
+        String notes,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+
+    /**
+     * Copy of this row after a status change.
+     *
+     * @return the updated row
+     */
+    public ReservationRow withStatus(ReservationStatus status, String notes, LocalDateTime updatedAt) {
+        return new ReservationRow(
+                id, confirmationCode, locationId, locationName, locationAddress,
+                customerName, customerEmail, chickenCount, friesCount, reservationDate, pickupTime,
+                status, notes, createdAt, updatedAt);
+    }
+}
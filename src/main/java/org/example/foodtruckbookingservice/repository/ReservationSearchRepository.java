@@ -0,0 +1,31 @@
+package org.example.foodtruckbookingservice.repository;
+
+import java.util.List;
+
+/**
+ * Admin reservation search with optional filters and keyset pagination.
+ * Implemented by {@link ReservationSearchRepositoryImpl}, available through {@link ReservationRepository}.
+ */
+public interface ReservationSearchRepository {
+
+    /**
+     * Find reservations matching the filter, newest first, after a keyset position.
+     * Seeking to the position uses the {@code (created_at, id)} indexes, so deep slices
+     * cost the same as the first one.
+     *
+     * @param filter the filter
+     * @param after  position of the last reservation already returned, null for the first slice
+     * @param limit  maximum number of reservations
+     * @return reservations ordered by creation time and ID descending
+     */
+    List<ReservationRow> search(ReservationFilter filter, ReservationKey after, int limit);
+
+    /**
+     * Count reservations matching the filter, but stop at a limit.
+     *
+     * @param filter the filter
+     * @param limit  the highest count of interest
+     * @return the count, at most {@code limit + 1} (more than {@code limit} matches)
+     */
+    long countUpTo(ReservationFilter filter, int limit);
+}
@@ -0,0 +1,85 @@
+package org.example.foodtruckbookingservice.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * JPQL implementation of {@link ReservationSearchRepository}. Only conditions of the filters
+ * that are set are added, so the database can pick the matching composite index
+ * (see V7 migration) instead of planning for all optional filters at once.
+ */
+class ReservationSearchRepositoryImpl implements ReservationSearchRepository {
+
+    private static final String ORDER_BY = " ORDER BY r.createdAt DESC, r.id DESC";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ReservationRow> search(ReservationFilter filter, ReservationKey after, int limit) {
+        Map<String, Object> parameters = new HashMap<>();
+        List<String> conditions = conditions(filter, parameters);
+        if (after != null) {
+            conditions.add("(r.createdAt, r.id) < (:afterCreatedAt, :afterId)");
+            parameters.put("afterCreatedAt", after.createdAt());
+            parameters.put("afterId", after.id());
+        }
+
+        TypedQuery<ReservationRow> query = entityManager.createQuery(
+                ReservationRepository.ROW_SELECT + where(conditions) + ORDER_BY, ReservationRow.class);
+        parameters.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public long countUpTo(ReservationFilter filter, int limit) {
+        Map<String, Object> parameters = new HashMap<>();
+        List<String> conditions = conditions(filter, parameters);
+
+        // Reads at most limit + 1 IDs instead of counting every match
+        TypedQuery<UUID> query = entityManager.createQuery(
+                "SELECT r.id FROM Reservation r" + where(conditions), UUID.class);
+        parameters.forEach(query::setParameter);
+        return query.setMaxResults(limit + 1).getResultList().size();
+    }
+
+    private static List<String> conditions(ReservationFilter filter, Map<String, Object> parameters) {
+        List<String> conditions = new ArrayList<>();
+        if (filter.locationId() != null) {
+            conditions.add("r.location.id = :locationId");
+            parameters.put("locationId", filter.locationId());
+        }
+        if (filter.statuses() != null && !filter.statuses().isEmpty()) {
+            conditions.add("r.status IN :statuses");
+            parameters.put("statuses", filter.statuses());
+        }
+        if (filter.dateFrom() != null) {
+            conditions.add("r.reservationDate >= :dateFrom");
+            parameters.put("dateFrom", filter.dateFrom());
+        }
+        if (filter.dateTo() != null) {
+            conditions.add("r.reservationDate <= :dateTo");
+            parameters.put("dateTo", filter.dateTo());
+        }
+        if (filter.pickupFrom() != null) {
+            conditions.add("r.pickupTime >= :pickupFrom");
+            parameters.put("pickupFrom", filter.pickupFrom());
+        }
+        if (filter.pickupTo() != null) {
+            conditions.add("r.pickupTime <= :pickupTo");
+            parameters.put("pickupTo", filter.pickupTo());
+        }
+        return conditions;
+    }
+
+    private static String where(List<String> conditions) {
+        return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.foodtruckbookingservice.repository;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Projection comparing the maintained reserved_chickens counter of a daily inventory
+ * with the value re-derived from CONFIRMED reservations.
+ *
+ * @param inventoryId the inventory ID
+ * @param locationId  the location ID
+ * @param date        the inventory date
+ * @param counter     the maintained counter value
+ * @param derived     the sum of CONFIRMED chicken counts
+ */
+public record ReservedChickensDrift(
+        UUID inventoryId,
+        UUID locationId,
+        LocalDate date,
+        Integer counter,
+        Long derived) {
+
+    /**
+     * @return true if counter and derived value differ
+     */
+    public boolean hasDrift() {
+        return counter.longValue() != derived;
+    }
+}
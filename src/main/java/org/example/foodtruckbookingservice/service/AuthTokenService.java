@@ -0,0 +1,125 @@
+package org.example.foodtruckbookingservice.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Issues and verifies signed access tokens for staff and admin users.
+ *
+ * <p>The password is checked once at login (BCrypt); afterwards requests carry a token
+ * {@code base64url(username:roles:expiresAt).base64url(HMAC-SHA256)} that is verified with the
+ * shared secret only - no user lookup, no BCrypt and no token store. Tokens cannot be revoked,
+ * which is why they are short-lived.
+ */
+@Service
+public class AuthTokenService {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    /** HMAC-SHA256 key size in bytes, shorter secrets are rejected at startup. */
+    static final int MIN_SECRET_LENGTH = 32;
+
+    private final ThreadLocal<Mac> signer;
+    private final Duration validity;
+    private final Clock clock;
+
+    @Autowired
+    public AuthTokenService(
+            @Value("${app.security.token.secret}") String secret,
+            @Value("${app.security.token.validity:PT1H}") Duration validity) {
+        this(secret, validity, Clock.systemUTC());
+    }
+
+    AuthTokenService(String secret, Duration validity, Clock clock) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalArgumentException("Token secret must not be empty");
+        }
+        if (secret.getBytes(StandardCharsets.UTF_8).length < MIN_SECRET_LENGTH) {
+            throw new IllegalArgumentException("Token secret must be at least " + MIN_SECRET_LENGTH + " bytes");
+        }
+        this.validity = validity;
+        this.clock = clock;
+        SecretKeySpec key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+        this.signer = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance("HmacSHA256");
+                mac.init(key);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HmacSHA256 not available", e);
+            }
+        });
+    }
+
+    /**
+     * Issue a token for an authenticated user.
+     *
+     * @param authentication the authenticated user (after password check)
+     * @return the token and its expiry
+     */
+    public IssuedToken issue(Authentication authentication) {
+        Instant expiresAt = clock.instant().plus(validity);
+        String roles = String.join(",", AuthorityUtils.authorityListToSet(authentication.getAuthorities()));
+        String payload = ENCODER.encodeToString(
+                (authentication.getName() + ":" + roles + ":" + expiresAt.getEpochSecond())
+                        .getBytes(StandardCharsets.UTF_8));
+        return new IssuedToken(payload + "." + ENCODER.encodeToString(sign(payload)), expiresAt);
+    }
+
+    /**
+     * Verify a token.
+     *
+     * @param token the token from the Authorization header
+     * @return the authenticated user, empty if the token is malformed, forged or expired
+     */
+    public Optional<Authentication> verify(String token) {
+        int dot = token.indexOf('.');
+        if (dot <= 0) {
+            return Optional.empty();
+        }
+        String payload = token.substring(0, dot);
+        try {
+            if (!MessageDigest.isEqual(sign(payload), DECODER.decode(token.substring(dot + 1)))) {
+                return Optional.empty();
+            }
+            String[] claims = new String(DECODER.decode(payload), StandardCharsets.UTF_8).split(":", -1);
+            if (claims.length != 3 || !clock.instant().isBefore(Instant.ofEpochSecond(Long.parseLong(claims[2])))) {
+                return Optional.empty();
+            }
+            List<GrantedAuthority> authorities = claims[1].isEmpty()
+                    ? List.of()
+                    : AuthorityUtils.commaSeparatedStringToAuthorityList(claims[1]);
+            return Optional.of(UsernamePasswordAuthenticationToken.authenticated(claims[0], null, authorities));
+        } catch (IllegalArgumentException e) {
+            // Not Base64 or not a number - NumberFormatException is an IllegalArgumentException
+            return Optional.empty();
+        }
+    }
+
+    private byte[] sign(String payload) {
+        return signer.get().doFinal(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * A signed token and the time it stops being accepted.
+     */
+    public record IssuedToken(String token, Instant expiresAt) {
+    }
+}
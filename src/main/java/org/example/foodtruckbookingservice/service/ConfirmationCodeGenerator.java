@@ -0,0 +1,153 @@
+package org.example.foodtruckbookingservice.service;
+
+import org.example.foodtruckbookingservice.repository.ReservationRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Generates confirmation codes that are unique by construction.
+ *
+ * <p>Each code is a keyed permutation of a sequence number: the 40-bit number runs through a
+ * 4-round Feistel network with HMAC-SHA256 as round function and is written as 8 characters of
+ * {@link #CODE_CHARACTERS} (32 characters = 5 bits each). Distinct sequence numbers therefore
+ * always give distinct codes, and without the secret the codes do not reveal their order.
+ *
+ * <p>Sequence numbers are allocated in blocks of {@link #BLOCK_SIZE} from the database sequence
+ * {@code confirmation_code_seq}, so a node needs one query per block and no lookups per code.
+ *
+ * <p>Note: codes created before this generator were random. The unique constraint on
+ * {@code reservation.confirmation_code} stays as backstop for the (1 in 2^40 per legacy code)
+ * chance of hitting one of them.
+ */
+@Component
+public class ConfirmationCodeGenerator {
+
+    static final String CODE_CHARACTERS = "ABCDEFGHJKLMNPQRSTUVWXYZ23456789";
+    static final int CODE_LENGTH = 8;
+
+    /**
+     * Must match the INCREMENT BY of confirmation_code_seq (V6 migration).
+     */
+    static final int BLOCK_SIZE = 1000;
+
+    private static final int HALF_BITS = 20;
+    private static final long HALF_MASK = (1L << HALF_BITS) - 1;
+    private static final long SEQUENCE_LIMIT = 1L << (2 * HALF_BITS);
+    private static final int ROUNDS = 4;
+
+    private final LongSupplier blockAllocator;
+    private final ThreadLocal<Mac> roundFunction;
+    // Not synchronized: the block query must not pin a virtual thread to its carrier
+    private final ReentrantLock blockLock = new ReentrantLock();
+    private volatile Block current = new Block(0, 0);
+
+    @Autowired
+    public ConfirmationCodeGenerator(
+            ReservationRepository reservationRepository,
+            @Value("${app.reservation.code.secret}") String secret) {
+        this(reservationRepository::nextConfirmationCodeBlock, secret);
+    }
+
+    /**
+     * @param blockAllocator returns the first sequence number of a fresh block of {@link #BLOCK_SIZE}
+     * @param secret         key of the permutation, must be the same on all nodes
+     */
+    ConfirmationCodeGenerator(LongSupplier blockAllocator, String secret) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalArgumentException("Confirmation code secret must not be empty");
+        }
+        this.blockAllocator = blockAllocator;
+        SecretKeySpec key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+        this.roundFunction = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance("HmacSHA256");
+                mac.init(key);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HmacSHA256 not available", e);
+            }
+        });
+    }
+
+    /**
+     * @return a new confirmation code (e.g. "HUHNK4M7")
+     */
+    public String nextCode() {
+        return encode(permute(nextSequence()));
+    }
+
+    long nextSequence() {
+        while (true) {
+            Block block = current;
+            long value = block.next.getAndIncrement();
+            if (value < block.end) {
+                return value;
+            }
+            blockLock.lock();
+            try {
+                if (current == block) {
+                    long start = blockAllocator.getAsLong();
+                    if (start < 0 || start + BLOCK_SIZE > SEQUENCE_LIMIT) {
+                        throw new IllegalStateException("Confirmation code sequence exhausted");
+                    }
+                    current = new Block(start, start + BLOCK_SIZE);
+                }
+            } finally {
+                blockLock.unlock();
+            }
+        }
+    }
+
+    long permute(long value) {
+        long left = value >>> HALF_BITS;
+        long right = value & HALF_MASK;
+        Mac mac = roundFunction.get();
+        for (int round = 0; round < ROUNDS; round++) {
+            long next = left ^ round(mac, round, right);
+            left = right;
+            right = next;
+        }
+        return (left << HALF_BITS) | right;
+    }
+
+    static String encode(long value) {
+        char[] code = new char[CODE_LENGTH];
+        for (int i = CODE_LENGTH - 1; i >= 0; i--) {
+            code[i] = CODE_CHARACTERS.charAt((int) (value & 0x1F));
+            value >>>= 5;
+        }
+        return new String(code);
+    }
+
+    private static long round(Mac mac, int round, long half) {
+        mac.update((byte) round);
+        mac.update((byte) (half >>> 16));
+        mac.update((byte) (half >>> 8));
+        mac.update((byte) half);
+        byte[] digest = mac.doFinal();
+        return (((digest[0] & 0xFFL) << 16) | ((digest[1] & 0xFFL) << 8) | (digest[2] & 0xFFL)) & HALF_MASK;
+    }
+
+    /**
+     * A range of sequence numbers owned by this node.
+     */
+    private static final class Block {
+
+        private final AtomicLong next;
+        private final long end;
+
+        private Block(long start, long end) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package org.example.foodtruckbookingservice.service;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Published when staff set the daily inventory of a location.
+ * Live update streams are notified once the publishing transaction has committed.
+ *
+ * @param locationId the location ID
+ * @param date       the inventory date
+ */
+public record InventoryChangedEvent(UUID locationId, LocalDate date) {
+}
@@ -0,0 +1,70 @@
+package org.example.foodtruckbookingservice.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.example.foodtruckbookingservice.repository.InventorySnapshot;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Gauges for today's chickens per location ({@code inventory.chickens.available},
+ * {@code inventory.chickens.total}).
+ *
+ * <p>Refreshed periodically for all locations open today with one snapshot query, so scrapes never
+ * hit the database. Locations without inventory are reported as 0 available.
+ */
+@Slf4j
+@Component
+public class InventoryMetrics {
+
+    private final InventoryService inventoryService;
+    private final TimetableService timetableService;
+    private final MultiGauge available;
+    private final MultiGauge total;
+
+    public InventoryMetrics(
+            InventoryService inventoryService,
+            TimetableService timetableService,
+            MeterRegistry meterRegistry) {
+        this.inventoryService = inventoryService;
+        this.timetableService = timetableService;
+        this.available = MultiGauge.builder("inventory.chickens.available")
+                .description("Chickens left for bookings today")
+                .register(meterRegistry);
+        this.total = MultiGauge.builder("inventory.chickens.total")
+                .description("Chickens in today's inventory")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.metrics.inventory-refresh-interval:PT15S}",
+            initialDelayString = "${app.metrics.inventory-refresh-interval:PT15S}")
+    void refresh() {
+        LocalDate today = LocalDate.now();
+        List<UUID> locationIds = timetableService.current().openOn(today.getDayOfWeek().getValue()).stream()
+                .map(Timetable.Entry::id)
+                .toList();
+        try {
+            Map<UUID, InventorySnapshot> snapshots = inventoryService.getSnapshots(locationIds, today);
+            available.register(snapshots.values().stream()
+                    .map(snapshot -> MultiGauge.Row.of(tags(snapshot), snapshot.availableChickens()))
+                    .toList(), true);
+            total.register(snapshots.values().stream()
+                    .filter(InventorySnapshot::isInventorySet)
+                    .map(snapshot -> MultiGauge.Row.of(tags(snapshot), snapshot.totalChickens()))
+                    .toList(), true);
+        } catch (RuntimeException e) {
+            log.warn("Could not refresh inventory metrics", e);
+        }
+    }
+
+    private static Tags tags(InventorySnapshot snapshot) {
+        return Tags.of("location", snapshot.locationName());
+    }
+}
@@ -0,0 +1,70 @@
+package org.example.foodtruckbookingservice.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.foodtruckbookingservice.repository.DailyInventoryRepository;
+import org.example.foodtruckbookingservice.repository.ReservedChickensDrift;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Background job that re-derives the reserved_chickens counter of daily_inventory
+ * from CONFIRMED reservations and reports (and corrects) drift.
+ *
+ * <p>The counter is maintained by conditional updates on every booking, cancellation and
+ * status change, so drift should never happen. It can only appear through manual data
+ * changes or bugs, which is exactly what this job is meant to surface.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InventoryReconciliationJob {
+
+    private final DailyInventoryRepository inventoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Reconcile today's inventories.
+     */
+    @Scheduled(cron = "${app.inventory.reconciliation.cron:0 */10 * * * *}")
+    public void reconcileToday() {
+        reconcile(LocalDate.now());
+    }
+
+    /**
+     * Reconcile all inventories of a date.
+     *
+     * @param date the date
+     * @return inventories whose counter had drifted
+     */
+    @Transactional
+    public List<ReservedChickensDrift> reconcile(LocalDate date) {
+        List<ReservedChickensDrift> drifts = inventoryRepository.findReservedChickensByDate(date).stream()
+                .filter(ReservedChickensDrift::hasDrift)
+                .toList();
+
+        for (ReservedChickensDrift drift : drifts) {
+            int corrected = inventoryRepository.correctReservedChickens(
+                    drift.inventoryId(), drift.counter(), drift.derived().intValue());
+            if (corrected > 0) {
+                eventPublisher.publishEvent(new InventoryChangedEvent(drift.locationId(), drift.date()));
+                log.warn("Reserved chickens drift for location {} on {}: counter={}, derived={} - corrected",
+                        drift.locationId(), drift.date(), drift.counter(), drift.derived());
+            } else {
+                log.warn("Reserved chickens drift for location {} on {}: counter={}, derived={} - "
+                                + "counter changed concurrently, will retry on next run",
+                        drift.locationId(), drift.date(), drift.counter(), drift.derived());
+            }
+        }
+
+        if (drifts.isEmpty()) {
+            log.debug("No reserved chickens drift on {}", date);
+        }
+        return drifts;
+    }
+}
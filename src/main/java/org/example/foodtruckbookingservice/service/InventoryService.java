@@ -6,19 +6,22 @@ import org.example.foodtruckbookingservice.dto.request.SetInventoryRequest;
 import org.example.foodtruckbookingservice.dto.response.AvailabilityResponse;
 import org.example.foodtruckbookingservice.dto.response.InventoryResponse;
 import org.example.foodtruckbookingservice.entity.DailyInventory;
-import org.example.foodtruckbookingservice.entity.Location;
-import org.example.foodtruckbookingservice.entity.ReservationStatus;
 import org.example.foodtruckbookingservice.exception.LocationNotFoundException;
 import org.example.foodtruckbookingservice.repository.DailyInventoryRepository;
+import org.example.foodtruckbookingservice.repository.InventorySnapshot;
 import org.example.foodtruckbookingservice.repository.LocationRepository;
-import org.example.foodtruckbookingservice.repository.ReservationRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.util.List;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Service for managing daily chicken inventory.
@@ -30,7 +33,7 @@ public class InventoryService {
 
     private final DailyInventoryRepository inventoryRepository;
     private final LocationRepository locationRepository;
-    private final ReservationRepository reservationRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Set or update daily inventory for a location.
@@ -40,31 +43,30 @@ public class InventoryService {
      */
     @Transactional
     public InventoryResponse setInventory(SetInventoryRequest request) {
-        Location location = locationRepository.findById(request.getLocationId())
-                .orElseThrow(() -> new LocationNotFoundException(request.getLocationId()));
-
         LocalDate today = LocalDate.now();
+        InventorySnapshot snapshot = getSnapshot(request.getLocationId(), today);
+        eventPublisher.publishEvent(new InventoryChangedEvent(request.getLocationId(), today));
+
+        if (snapshot.isInventorySet()) {
+            log.info("Updating inventory for location {} on {}: {} -> {}",
+                    request.getLocationId(), today, snapshot.totalChickens(), request.getTotalChickens());
+            inventoryRepository.updateTotalChickens(snapshot.inventoryId(), request.getTotalChickens());
+            return toInventoryResponse(snapshot.withInventory(
+                    snapshot.inventoryId(), request.getTotalChickens(), snapshot.reservedChickens(),
+                    snapshot.inventoryCreatedAt(), LocalDateTime.now()), today);
+        }
 
-        DailyInventory inventory = inventoryRepository
-                .findByLocationIdAndDate(request.getLocationId(), today)
-                .map(existing -> {
-                    log.info("Updating inventory for location {} on {}: {} -> {}",
-                            request.getLocationId(), today, existing.getTotalChickens(), request.getTotalChickens());
-                    existing.setTotalChickens(request.getTotalChickens());
-                    return existing;
-                })
-                .orElseGet(() -> {
-                    log.info("Creating new inventory for location {} on {}: {}",
-                            request.getLocationId(), today, request.getTotalChickens());
-                    return DailyInventory.builder()
-                            .location(location)
-                            .date(today)
-                            .totalChickens(request.getTotalChickens())
-                            .build();
-                });
-
-        inventory = inventoryRepository.save(inventory);
-        return toInventoryResponse(inventory, location);
+        log.info("Creating new inventory for location {} on {}: {}",
+                request.getLocationId(), today, request.getTotalChickens());
+        DailyInventory inventory = inventoryRepository.save(DailyInventory.builder()
+                .location(locationRepository.getReferenceById(request.getLocationId()))
+                .date(today)
+                .totalChickens(request.getTotalChickens())
+                .build());
+
+        return toInventoryResponse(snapshot.withInventory(
+                inventory.getId(), inventory.getTotalChickens(), inventory.getReservedChickens(),
+                inventory.getCreatedAt(), inventory.getUpdatedAt()), today);
     }
 
     /**
@@ -76,25 +78,38 @@ public class InventoryService {
      */
     @Transactional(readOnly = true)
     public InventoryResponse getInventory(UUID locationId, LocalDate date) {
-        Location location = locationRepository.findById(locationId)
-                .orElseThrow(() -> new LocationNotFoundException(locationId));
-
         LocalDate queryDate = date != null ? date : LocalDate.now();
+        return toInventoryResponse(getSnapshot(locationId, queryDate), queryDate);
+    }
 
-        Optional<DailyInventory> inventoryOpt = inventoryRepository
-                .findByLocationIdAndDate(locationId, queryDate);
+    /**
+     * Load location, inventory and reservation counts of a location-day in one statement.
+     *
+     * @param locationId the location ID
+     * @param date       the date
+     * @return the snapshot
+     * @throws LocationNotFoundException if the location does not exist
+     */
+    @Transactional(readOnly = true)
+    public InventorySnapshot getSnapshot(UUID locationId, LocalDate date) {
+        return inventoryRepository.findSnapshot(locationId, date)
+                .orElseThrow(() -> new LocationNotFoundException(locationId));
+    }
 
-        if (inventoryOpt.isEmpty()) {
-            return InventoryResponse.builder()
-                    .locationId(locationId)
-                    .locationName(location.getName())
-                    .date(queryDate)
-                    .inventorySet(false)
-                    .message("Bitte Tagesvorrat eintragen!")
-                    .build();
+    /**
+     * Load the snapshots of several locations for the same day in one statement.
+     *
+     * @param locationIds the location IDs
+     * @param date        the date
+     * @return snapshots by location ID (locations that do not exist are missing)
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, InventorySnapshot> getSnapshots(Collection<UUID> locationIds, LocalDate date) {
+        if (locationIds.isEmpty()) {
+            return Map.of();
         }
-
-        return toInventoryResponse(inventoryOpt.get(), location);
+        return inventoryRepository.findSnapshots(locationIds, date).stream()
+                .collect(Collectors.toMap(InventorySnapshot::locationId, Function.identity()));
     }
 
     /**
@@ -106,19 +121,9 @@ public class InventoryService {
      */
     @Transactional(readOnly = true)
     public int getAvailableChickens(UUID locationId) {
-        LocalDate today = LocalDate.now();
-
-        Optional<DailyInventory> inventoryOpt = inventoryRepository
-                .findByLocationIdAndDate(locationId, today);
-
-        if (inventoryOpt.isEmpty()) {
-            return 0;
-        }
-
-        int totalChickens = inventoryOpt.get().getTotalChickens();
-        int reservedChickens = getReservedChickens(locationId, today);
-
-        return Math.max(0, totalChickens - reservedChickens);
+        return inventoryRepository.findByLocationIdAndDate(locationId, LocalDate.now())
+                .map(this::getAvailableChickens)
+                .orElse(0);
     }
 
     /**
@@ -145,57 +150,135 @@ public class InventoryService {
     }
 
     /**
-     * Reduce total inventory when a reservation is completed (chickens picked up).
+     * Lock the inventory row of a location and date for the rest of the current transaction.
+     *
+     * @param locationId the location ID
+     * @param date       the date
+     * @return the locked inventory, empty if no inventory is set
+     */
+    @Transactional
+    public Optional<DailyInventory> lockInventory(UUID locationId, LocalDate date) {
+        return inventoryRepository.findForUpdate(locationId, date);
+    }
+
+    /**
+     * Claim chickens for a new reservation in the current transaction.
+     * The check and the claim are a single conditional update, so concurrent bookings
+     * can never claim more chickens than are left.
      *
      * @param locationId   the location ID
-     * @param chickenCount number of chickens to subtract
+     * @param date         the reservation date
+     * @param chickenCount chickens requested (may be 0 for fries-only orders)
+     * @return true if claimed, false if no inventory is set or not enough chickens are left
      */
     @Transactional
-    public void reduceInventory(UUID locationId, int chickenCount) {
-        LocalDate today = LocalDate.now();
+    public boolean claimChickens(UUID locationId, LocalDate date, int chickenCount) {
+        return inventoryRepository.claimChickens(locationId, date, chickenCount) > 0;
+    }
+
+    /**
+     * Release chickens of a reservation that will not be picked up (CANCELLED, NO_SHOW).
+     *
+     * @param locationId   the location ID
+     * @param date         the reservation date
+     * @param chickenCount chickens to release
+     */
+    @Transactional
+    public void releaseChickens(UUID locationId, LocalDate date, int chickenCount) {
+        if (chickenCount <= 0) {
+            return;
+        }
+        if (inventoryRepository.releaseChickens(locationId, date, chickenCount) == 0) {
+            log.warn("Could not release {} chickens for location {} on {} - counter drift, will be reconciled",
+                    chickenCount, locationId, date);
+        }
+    }
+
+    /**
+     * Consume chickens when a reservation is completed (chickens picked up).
+     * Removes them from the total and the reserved counter, availability is unchanged.
+     *
+     * @param locationId   the location ID
+     * @param date         the reservation date
+     * @param chickenCount number of chickens picked up
+     */
+    @Transactional
+    public void consumeChickens(UUID locationId, LocalDate date, int chickenCount) {
+        if (chickenCount <= 0) {
+            return;
+        }
+        if (inventoryRepository.consumeChickens(locationId, date, chickenCount) > 0) {
+            log.info("Consumed {} chickens from inventory of location {} on {}", chickenCount, locationId, date);
+        }
+    }
 
-        inventoryRepository.findByLocationIdAndDate(locationId, today)
-                .ifPresent(inventory -> {
-                    int newTotal = Math.max(0, inventory.getTotalChickens() - chickenCount);
-                    log.info("Reducing inventory for location {} from {} to {} (-{} chickens)",
-                            locationId, inventory.getTotalChickens(), newTotal, chickenCount);
-                    inventory.setTotalChickens(newTotal);
-                    inventoryRepository.save(inventory);
-                });
+    /**
+     * Release and consume the chickens of several status changes of a location-day at once.
+     *
+     * @param locationId the location ID
+     * @param date       the reservation date
+     * @param released   chickens to release (CANCELLED, NO_SHOW)
+     * @param consumed   chickens picked up (COMPLETED)
+     */
+    @Transactional
+    public void settleChickens(UUID locationId, LocalDate date, int released, int consumed) {
+        if (released <= 0 && consumed <= 0) {
+            return;
+        }
+        if (inventoryRepository.settleChickens(locationId, date, released, consumed) > 0) {
+            log.info("Released {} and consumed {} chickens of location {} on {}",
+                    released, consumed, locationId, date);
+        }
     }
 
-    private int getReservedChickens(UUID locationId, LocalDate date) {
-        return reservationRepository.sumChickenCountByLocationAndDateAndStatus(
-                locationId,
-                date,
-                List.of(ReservationStatus.CONFIRMED)
-        );
+    private int getAvailableChickens(DailyInventory inventory) {
+        return Math.max(0, inventory.getTotalChickens() - inventory.getReservedChickens());
     }
 
-    private InventoryResponse toInventoryResponse(DailyInventory inventory, Location location) {
-        int reservedChickens = getReservedChickens(inventory.getLocation().getId(), inventory.getDate());
-        int availableChickens = Math.max(0, inventory.getTotalChickens() - reservedChickens);
-        long reservationCount = reservationRepository.countByLocationIdAndReservationDate(
-                inventory.getLocation().getId(), inventory.getDate());
+    /**
+     * Convert a snapshot to the inventory response.
+     *
+     * @param snapshot the location-day snapshot
+     * @param date     the date of the snapshot
+     * @return the inventory response
+     */
+    public InventoryResponse toInventoryResponse(InventorySnapshot snapshot, LocalDate date) {
+        if (!snapshot.isInventorySet()) {
+            return InventoryResponse.builder()
+                    .locationId(snapshot.locationId())
+                    .locationName(snapshot.locationName())
+                    .date(date)
+                    .inventorySet(false)
+                    .message("Bitte Tagesvorrat eintragen!")
+                    .build();
+        }
+
+        int totalChickens = snapshot.totalChickens();
+        int reservedChickens = snapshot.reservedChickens();
+        int availableChickens = snapshot.availableChickens();
 
-        double utilizationPercent = inventory.getTotalChickens() > 0
-                ? (reservedChickens * 100.0) / inventory.getTotalChickens()
+        double utilizationPercent = totalChickens > 0
+                ? (reservedChickens * 100.0) / totalChickens
                 : 0.0;
 
         return InventoryResponse.builder()
-                .id(inventory.getId())
-                .locationId(location.getId())
-                .locationName(location.getName())
-                .date(inventory.getDate())
+                .id(snapshot.inventoryId())
+                .locationId(snapshot.locationId())
+                .locationName(snapshot.locationName())
+                .date(date)
                 .inventorySet(true)
-                .totalChickens(inventory.getTotalChickens())
+                .totalChickens(totalChickens)
                 .reservedChickens(reservedChickens)
                 .availableChickens(availableChickens)
-                .reservationCount(reservationCount)
+                .reservationCount(snapshot.reservationCount())
+                .confirmedCount(snapshot.confirmedCount())
+                .completedCount(snapshot.completedCount())
+                .cancelledCount(snapshot.cancelledCount())
+                .noShowCount(snapshot.noShowCount())
                 .utilizationPercent(utilizationPercent)
-                .status(calculateStatus(availableChickens, inventory.getTotalChickens()))
-                .createdAt(inventory.getCreatedAt())
-                .updatedAt(inventory.getUpdatedAt())
+                .status(calculateStatus(availableChickens, totalChickens))
+                .createdAt(snapshot.inventoryCreatedAt())
+                .updatedAt(snapshot.inventoryUpdatedAt())
                 .message("Vorrat erfolgreich eingetragen")
                 .build();
     }
@@ -0,0 +1,53 @@
+package org.example.foodtruckbookingservice.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.foodtruckbookingservice.repository.JobLeaseRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Leases that keep scheduled jobs on one node at a time, so every node can schedule them.
+ *
+ * <p>The node that takes over the lease runs the job; the others skip that run. A lease is not
+ * released after the run but expires, so it should be a bit shorter than the job interval and
+ * longer than a run.
+ */
+@Slf4j
+@Service
+public class JobLeaseService {
+
+    private final JobLeaseRepository jobLeaseRepository;
+    private final String owner;
+
+    public JobLeaseService(JobLeaseRepository jobLeaseRepository) {
+        this.jobLeaseRepository = jobLeaseRepository;
+        // pid@host plus a random part, so two application contexts in one JVM are distinct owners
+        String node = ManagementFactory.getRuntimeMXBean().getName();
+        this.owner = node.substring(0, Math.min(node.length(), 80)) + "/"
+                + Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+    }
+
+    /**
+     * Take the lease of a job if it is free or already held by this node.
+     *
+     * @param name     the job name
+     * @param duration how long the lease is held
+     * @return true if this node may run the job now
+     */
+    @Transactional
+    public boolean tryAcquire(String name, Duration duration) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime lockedUntil = now.plus(duration);
+        boolean acquired = jobLeaseRepository.takeOver(name, owner, now, lockedUntil) > 0
+                || jobLeaseRepository.create(name, owner, lockedUntil) > 0;
+        if (!acquired) {
+            log.debug("Lease of job {} is held by another node", name);
+        }
+        return acquired;
+    }
+}
@@ -0,0 +1,265 @@
+package org.example.foodtruckbookingservice.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.foodtruckbookingservice.dto.response.AvailabilityResponse;
+import org.example.foodtruckbookingservice.dto.response.InventoryResponse;
+import org.example.foodtruckbookingservice.exception.LocationNotFoundException;
+import org.example.foodtruckbookingservice.repository.InventorySnapshot;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Server-Sent Events broadcaster for live availability (customers) and reservation updates
+ * (staff, admin).
+ *
+ * <p>Changes are picked up from {@link ReservationChangedEvent} and {@link InventoryChangedEvent}
+ * after commit. Per location the new state is loaded once with a single snapshot query and the
+ * serialized JSON is written to all watchers, so N open tabs cost one query instead of N polls.
+ * Changes arriving while a refresh is still queued are coalesced into that refresh.
+ *
+ * <p>Events:
+ * <ul>
+ *   <li>{@code availability} - {@link AvailabilityResponse}, on the public stream</li>
+ *   <li>{@code inventory} - {@link InventoryResponse}, on the staff stream</li>
+ *   <li>{@code reservation} - the changed reservation, on the staff stream of its location and
+ *   on the admin stream</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class LiveUpdateService {
+
+    static final String AVAILABILITY_EVENT = "availability";
+    static final String INVENTORY_EVENT = "inventory";
+    static final String RESERVATION_EVENT = "reservation";
+
+    private final InventoryService inventoryService;
+    private final LocationService locationService;
+    private final TimetableService timetableService;
+    private final JsonMapper jsonMapper;
+    private final Duration emitterTimeout;
+
+    private final ConcurrentMap<UUID, Set<SseEmitter>> availabilityWatchers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<UUID, Set<SseEmitter>> staffWatchers = new ConcurrentHashMap<>();
+    private final Set<SseEmitter> adminWatchers = ConcurrentHashMap.newKeySet();
+    private final ConcurrentMap<UUID, LocationState> latest = new ConcurrentHashMap<>();
+    private final Set<UUID> pendingRefreshes = ConcurrentHashMap.newKeySet();
+    private final ExecutorService refreshExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public LiveUpdateService(
+            InventoryService inventoryService,
+            LocationService locationService,
+            TimetableService timetableService,
+            JsonMapper jsonMapper,
+            @Value("${app.live-updates.emitter-timeout:30m}") Duration emitterTimeout) {
+        this.inventoryService = inventoryService;
+        this.locationService = locationService;
+        this.timetableService = timetableService;
+        this.jsonMapper = jsonMapper;
+        this.emitterTimeout = emitterTimeout;
+    }
+
+    /**
+     * Open an availability stream for a location (today).
+     * The current availability is sent right away.
+     *
+     * @param locationId the location ID
+     * @return the emitter
+     */
+    public SseEmitter subscribeAvailability(UUID locationId) {
+        return subscribe(availabilityWatchers, locationId, AVAILABILITY_EVENT, LocationState::availabilityJson);
+    }
+
+    /**
+     * @param locationId the location ID
+     * @return number of open availability streams of the location
+     */
+    int availabilityWatchers(UUID locationId) {
+        return availabilityWatchers.getOrDefault(locationId, Set.of()).size();
+    }
+
+    /**
+     * Open a staff stream for a location (today).
+     * The current inventory is sent right away, reservations are pushed as they change.
+     *
+     * @param locationId the location ID
+     * @return the emitter
+     */
+    public SseEmitter subscribeStaff(UUID locationId) {
+        return subscribe(staffWatchers, locationId, INVENTORY_EVENT, LocationState::inventoryJson);
+    }
+
+    /**
+     * Open an admin stream: reservation changes of all locations are pushed as they happen.
+     *
+     * @return the emitter
+     */
+    public SseEmitter subscribeAdmin() {
+        SseEmitter emitter = new SseEmitter(emitterTimeout.toMillis());
+        adminWatchers.add(emitter);
+        emitter.onCompletion(() -> adminWatchers.remove(emitter));
+        emitter.onTimeout(() -> adminWatchers.remove(emitter));
+        emitter.onError(e -> adminWatchers.remove(emitter));
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    void onReservationChanged(ReservationChangedEvent event) {
+        UUID locationId = event.reservation().getLocationId();
+        Set<SseEmitter> watchers = staffWatchers.getOrDefault(locationId, Set.of());
+        if (!watchers.isEmpty() || !adminWatchers.isEmpty()) {
+            String json = jsonMapper.writeValueAsString(event.reservation());
+            // Writing to clients happens off the request thread, slow clients must not delay the response
+            refreshExecutor.execute(() -> {
+                broadcast(watchers, RESERVATION_EVENT, json);
+                broadcast(adminWatchers, RESERVATION_EVENT, json);
+            });
+        }
+        scheduleRefresh(locationId, event.reservation().getReservationDate());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    void onInventoryChanged(InventoryChangedEvent event) {
+        scheduleRefresh(event.locationId(), event.date());
+    }
+
+    /**
+     * Keep idle connections open through proxies and drop clients that went away.
+     */
+    @Scheduled(fixedRateString = "${app.live-updates.heartbeat-interval:PT15S}")
+    void heartbeat() {
+        availabilityWatchers.values().forEach(this::ping);
+        staffWatchers.values().forEach(this::ping);
+        ping(adminWatchers);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refreshExecutor.shutdownNow();
+        availabilityWatchers.values().forEach(watchers -> watchers.forEach(SseEmitter::complete));
+        staffWatchers.values().forEach(watchers -> watchers.forEach(SseEmitter::complete));
+        adminWatchers.forEach(SseEmitter::complete);
+    }
+
+    private SseEmitter subscribe(
+            ConcurrentMap<UUID, Set<SseEmitter>> registry,
+            UUID locationId,
+            String initialEvent,
+            Function<LocationState, String> initialData) {
+        if (!timetableService.current().contains(locationId)) {
+            throw new LocationNotFoundException(locationId);
+        }
+        SseEmitter emitter = new SseEmitter(emitterTimeout.toMillis());
+        Set<SseEmitter> watchers = registry.computeIfAbsent(locationId, id -> ConcurrentHashMap.newKeySet());
+        // Registered before the initial state is loaded, so no change in between is missed
+        watchers.add(emitter);
+        emitter.onCompletion(() -> watchers.remove(emitter));
+        emitter.onTimeout(() -> watchers.remove(emitter));
+        emitter.onError(e -> watchers.remove(emitter));
+
+        try {
+            send(emitter, SseEmitter.event().name(initialEvent).data(initialData.apply(currentState(locationId))));
+        } catch (RuntimeException e) {
+            watchers.remove(emitter);
+            throw e;
+        }
+        return emitter;
+    }
+
+    private void scheduleRefresh(UUID locationId, LocalDate date) {
+        if (!LocalDate.now().equals(date)) {
+            return;
+        }
+        latest.remove(locationId);
+        if (!hasWatchers(locationId)) {
+            return;
+        }
+        // One refresh per location at a time, later changes are picked up by the queued one
+        if (pendingRefreshes.add(locationId)) {
+            refreshExecutor.execute(() -> refresh(locationId));
+        }
+    }
+
+    private void refresh(UUID locationId) {
+        pendingRefreshes.remove(locationId);
+        try {
+            LocationState state = loadState(locationId);
+            broadcast(availabilityWatchers.getOrDefault(locationId, Set.of()),
+                    AVAILABILITY_EVENT, state.availabilityJson());
+            broadcast(staffWatchers.getOrDefault(locationId, Set.of()),
+                    INVENTORY_EVENT, state.inventoryJson());
+        } catch (RuntimeException e) {
+            log.warn("Live update for location {} failed", locationId, e);
+        }
+    }
+
+    private LocationState currentState(UUID locationId) {
+        LocationState state = latest.get(locationId);
+        return state != null && state.date().equals(LocalDate.now()) ? state : loadState(locationId);
+    }
+
+    private LocationState loadState(UUID locationId) {
+        LocalDate today = LocalDate.now();
+        InventorySnapshot snapshot = inventoryService.getSnapshot(locationId, today);
+        LocationState state = new LocationState(
+                today,
+                jsonMapper.writeValueAsString(locationService.toAvailabilityResponse(snapshot, today)),
+                jsonMapper.writeValueAsString(inventoryService.toInventoryResponse(snapshot, today)));
+        latest.put(locationId, state);
+        return state;
+    }
+
+    private boolean hasWatchers(UUID locationId) {
+        return !availabilityWatchers.getOrDefault(locationId, Set.of()).isEmpty()
+                || !staffWatchers.getOrDefault(locationId, Set.of()).isEmpty();
+    }
+
+    private void broadcast(Set<SseEmitter> watchers, String name, String json) {
+        if (watchers.isEmpty()) {
+            // Also the immutable Set.of() of locations without watchers, which rejects removeIf
+            return;
+        }
+        // Removed right away, the completion callbacks only run once the container notices
+        watchers.removeIf(emitter -> !send(emitter, SseEmitter.event().name(name).data(json)));
+    }
+
+    private void ping(Set<SseEmitter> watchers) {
+        watchers.removeIf(emitter -> !send(emitter, SseEmitter.event().comment("ping")));
+    }
+
+    /**
+     * @return false if the client went away
+     */
+    private boolean send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    /**
+     * Serialized state of a location-day, shared by all watchers.
+     */
+    private record LocationState(LocalDate date, String availabilityJson, String inventoryJson) {
+    }
+}
@@ -18,8 +18,10 @@ import org.example.foodtruckbookingservice.exception.BusinessRuleViolationExcept
 import org.example.foodtruckbookingservice.exception.LocationNameAlreadyExistsException;
 import org.example.foodtruckbookingservice.exception.LocationNotFoundException;
 import org.example.foodtruckbookingservice.mapper.LocationMapper;
+import org.example.foodtruckbookingservice.repository.InventorySnapshot;
 import org.example.foodtruckbookingservice.repository.LocationRepository;
 import org.example.foodtruckbookingservice.repository.LocationScheduleRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,12 +29,11 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.format.TextStyle;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 /**
  * Service for location and schedule operations.
@@ -46,7 +47,9 @@ public class LocationService {
     private final LocationRepository locationRepository;
     private final LocationScheduleRepository scheduleRepository;
     private final InventoryService inventoryService;
+    private final TimetableService timetableService;
     private final LocationMapper locationMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Get all active locations.
@@ -79,62 +82,82 @@ public class LocationService {
 
     /**
      * Check availability for a location on a specific date.
-     * Uses daily_inventory for today (same-day only).
+     * Opening hours come from the timetable, daily_inventory for today (same-day only)
+     * is loaded with a single query.
      */
     public AvailabilityResponse checkAvailability(UUID locationId, LocalDate date) {
         log.debug("Checking availability for location {} on {}", locationId, date);
 
-        Location location = findLocationOrThrow(locationId);
+        return toAvailabilityResponse(inventoryService.getSnapshot(locationId, date), date);
+    }
+
+    /**
+     * Get availability of all locations open today, sorted by name.
+     * Open locations and hours come from the timetable, inventories of all of them
+     * are loaded with a single query.
+     */
+    public List<AvailabilityResponse> getTodayAvailability() {
+        log.debug("Checking availability for all locations open today");
+
+        LocalDate today = LocalDate.now();
+        List<Timetable.Entry> openToday = timetableService.current().openOn(today.getDayOfWeek().getValue());
+        Map<UUID, InventorySnapshot> snapshots = inventoryService.getSnapshots(
+                openToday.stream().map(Timetable.Entry::id).toList(), today);
+
+        return openToday.stream()
+                .map(entry -> snapshots.get(entry.id()))
+                .filter(Objects::nonNull)
+                .map(snapshot -> toAvailabilityResponse(snapshot, today))
+                .toList();
+    }
+
+    /**
+     * Build the availability of a location-day from an already loaded snapshot.
+     * Opening hours come from the timetable, so this needs no DB access.
+     */
+    public AvailabilityResponse toAvailabilityResponse(InventorySnapshot snapshot, LocalDate date) {
         int dayOfWeek = date.getDayOfWeek().getValue();
 
         // Check if location is open on this day
-        LocationSchedule schedule = scheduleRepository
-                .findByLocationIdAndDayOfWeekAndActiveTrue(locationId, dayOfWeek)
+        Timetable.OpeningHours hours = timetableService.current()
+                .openingHours(snapshot.locationId(), dayOfWeek)
                 .orElse(null);
 
-        if (schedule == null) {
-            return buildClosedResponse(location, date, dayOfWeek);
+        if (hours == null) {
+            return buildClosedResponse(snapshot, date, dayOfWeek);
         }
 
         // Only same-day reservations allowed
         LocalDate today = LocalDate.now();
         if (!date.equals(today)) {
-            return buildNotTodayResponse(location, schedule, date);
+            return buildNotTodayResponse(snapshot, hours, date, dayOfWeek);
         }
 
-        // Get inventory for today
-        InventoryResponse inventory = inventoryService.getInventory(locationId, date);
-
-        if (!inventory.getInventorySet()) {
-            return buildNoInventoryResponse(location, schedule, date);
+        if (!snapshot.isInventorySet()) {
+            return buildNoInventoryResponse(snapshot, hours, date, dayOfWeek);
         }
 
-        return buildAvailabilityResponse(location, schedule, date, inventory);
+        return buildAvailabilityResponse(snapshot, hours, date, dayOfWeek,
+                inventoryService.toInventoryResponse(snapshot, date));
     }
 
     /**
      * Get the weekly schedule for all active locations.
-     * Returns locations grouped by day of week.
+     * Returns locations grouped by day of week, served from the timetable.
      */
     public WeeklyScheduleResponse getWeeklySchedule() {
         log.debug("Fetching weekly schedule for all active locations");
 
-        List<LocationSchedule> allSchedules = scheduleRepository.findAllActiveWithLocation();
-
-        Map<Integer, List<LocationSchedule>> schedulesByDay = allSchedules.stream()
-                .collect(Collectors.groupingBy(LocationSchedule::getDayOfWeek));
-
+        Timetable timetable = timetableService.current();
         List<DayScheduleResponse> daySchedules = new ArrayList<>();
 
         for (int day = 1; day <= 7; day++) {
-            List<LocationSchedule> dayLocations = schedulesByDay.getOrDefault(day, List.of());
-
-            if (!dayLocations.isEmpty()) {
-                List<LocationScheduleEntryResponse> entries = dayLocations.stream()
-                        .sorted(Comparator.comparing(s -> s.getLocation().getName()))
-                        .map(this::toLocationScheduleEntry)
-                        .toList();
+            int dayOfWeek = day;
+            List<LocationScheduleEntryResponse> entries = timetable.openOn(day).stream()
+                    .map(entry -> toLocationScheduleEntry(entry, dayOfWeek))
+                    .toList();
 
+            if (!entries.isEmpty()) {
                 daySchedules.add(DayScheduleResponse.builder()
                         .dayOfWeek(day)
                         .dayName(getDayName(day))
@@ -154,25 +177,22 @@ public class LocationService {
     public List<LocationResponse> getTodayLocations() {
         log.debug("Fetching locations open today");
         int todayDayOfWeek = LocalDate.now().getDayOfWeek().getValue();
-        List<LocationSchedule> todaySchedules = scheduleRepository.findByDayOfWeekAndActiveTrue(todayDayOfWeek);
 
-        return todaySchedules.stream()
-                .map(LocationSchedule::getLocation)
-                .filter(Location::getActive)
+        return timetableService.current().openOn(todayDayOfWeek).stream()
                 .map(locationMapper::toResponse)
                 .toList();
     }
 
-    private LocationScheduleEntryResponse toLocationScheduleEntry(LocationSchedule schedule) {
-        Location location = schedule.getLocation();
+    private LocationScheduleEntryResponse toLocationScheduleEntry(Timetable.Entry entry, int dayOfWeek) {
+        Timetable.OpeningHours hours = entry.openingHours().get(dayOfWeek);
         return LocationScheduleEntryResponse.builder()
-                .locationId(location.getId())
-                .locationName(location.getName())
-                .address(location.getAddress())
-                .latitude(location.getLatitude())
-                .longitude(location.getLongitude())
-                .openingTime(schedule.getOpeningTime())
-                .closingTime(schedule.getClosingTime())
+                .locationId(entry.id())
+                .locationName(entry.name())
+                .address(entry.address())
+                .latitude(entry.latitude())
+                .longitude(entry.longitude())
+                .openingTime(hours.openingTime())
+                .closingTime(hours.closingTime())
                 .build();
     }
 
@@ -189,6 +209,7 @@ public class LocationService {
 
         Location location = locationMapper.toEntity(request);
         Location saved = locationRepository.save(location);
+        eventPublisher.publishEvent(new TimetableChangedEvent(saved.getId()));
 
         log.info("Created location with id: {}", saved.getId());
         return locationMapper.toResponse(saved);
@@ -216,6 +237,7 @@ public class LocationService {
         }
 
         Location saved = locationRepository.save(location);
+        eventPublisher.publishEvent(new TimetableChangedEvent(saved.getId()));
         log.info("Updated location: {}", saved.getId());
         return locationMapper.toResponse(saved);
     }
@@ -249,6 +271,7 @@ public class LocationService {
         schedule.setActive(request.getActive() != null ? request.getActive() : true);
 
         LocationSchedule saved = scheduleRepository.save(schedule);
+        eventPublisher.publishEvent(new TimetableChangedEvent(locationId));
         log.info("Saved schedule with id: {}", saved.getId());
         return locationMapper.toScheduleResponse(saved);
     }
@@ -259,19 +282,20 @@ public class LocationService {
     }
 
     private AvailabilityResponse buildAvailabilityResponse(
-            Location location,
-            LocationSchedule schedule,
+            InventorySnapshot snapshot,
+            Timetable.OpeningHours hours,
             LocalDate date,
+            int dayOfWeek,
             InventoryResponse inventory) {
 
         return AvailabilityResponse.builder()
-                .locationId(location.getId())
-                .locationName(location.getName())
+                .locationId(snapshot.locationId())
+                .locationName(snapshot.locationName())
                 .date(date)
-                .dayOfWeek(schedule.getDayOfWeek())
-                .dayName(getDayName(schedule.getDayOfWeek()))
-                .openingTime(schedule.getOpeningTime())
-                .closingTime(schedule.getClosingTime())
+                .dayOfWeek(dayOfWeek)
+                .dayName(getDayName(dayOfWeek))
+                .openingTime(hours.openingTime())
+                .closingTime(hours.closingTime())
                 .inventorySet(true)
                 .totalChickens(inventory.getTotalChickens())
                 .reservedChickens(inventory.getReservedChickens())
@@ -281,15 +305,16 @@ public class LocationService {
                 .build();
     }
 
-    private AvailabilityResponse buildNoInventoryResponse(Location location, LocationSchedule schedule, LocalDate date) {
+    private AvailabilityResponse buildNoInventoryResponse(
+            InventorySnapshot snapshot, Timetable.OpeningHours hours, LocalDate date, int dayOfWeek) {
         return AvailabilityResponse.builder()
-                .locationId(location.getId())
-                .locationName(location.getName())
+                .locationId(snapshot.locationId())
+                .locationName(snapshot.locationName())
                 .date(date)
-                .dayOfWeek(schedule.getDayOfWeek())
-                .dayName(getDayName(schedule.getDayOfWeek()))
-                .openingTime(schedule.getOpeningTime())
-                .closingTime(schedule.getClosingTime())
+                .dayOfWeek(dayOfWeek)
+                .dayName(getDayName(dayOfWeek))
+                .openingTime(hours.openingTime())
+                .closingTime(hours.closingTime())
                 .inventorySet(false)
                 .availableChickens(0)
                 .isOpen(true)
@@ -298,15 +323,16 @@ public class LocationService {
                 .build();
     }
 
-    private AvailabilityResponse buildNotTodayResponse(Location location, LocationSchedule schedule, LocalDate date) {
+    private AvailabilityResponse buildNotTodayResponse(
+            InventorySnapshot snapshot, Timetable.OpeningHours hours, LocalDate date, int dayOfWeek) {
         return AvailabilityResponse.builder()
-                .locationId(location.getId())
-                .locationName(location.getName())
+                .locationId(snapshot.locationId())
+                .locationName(snapshot.locationName())
                 .date(date)
-                .dayOfWeek(schedule.getDayOfWeek())
-                .dayName(getDayName(schedule.getDayOfWeek()))
-                .openingTime(schedule.getOpeningTime())
-                .closingTime(schedule.getClosingTime())
+                .dayOfWeek(dayOfWeek)
+                .dayName(getDayName(dayOfWeek))
+                .openingTime(hours.openingTime())
+                .closingTime(hours.closingTime())
                 .inventorySet(false)
                 .availableChickens(0)
                 .isOpen(true)
@@ -315,10 +341,10 @@ public class LocationService {
                 .build();
     }
 
-    private AvailabilityResponse buildClosedResponse(Location location, LocalDate date, int dayOfWeek) {
+    private AvailabilityResponse buildClosedResponse(InventorySnapshot snapshot, LocalDate date, int dayOfWeek) {
         return AvailabilityResponse.builder()
-                .locationId(location.getId())
-                .locationName(location.getName())
+                .locationId(snapshot.locationId())
+                .locationName(snapshot.locationName())
                 .date(date)
                 .dayOfWeek(dayOfWeek)
                 .dayName(getDayName(dayOfWeek))
@@ -0,0 +1,106 @@
+package org.example.foodtruckbookingservice.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.foodtruckbookingservice.entity.ReservationStatus;
+import org.example.foodtruckbookingservice.exception.NoShowSweepConflictException;
+import org.example.foodtruckbookingservice.repository.LocationDay;
+import org.example.foodtruckbookingservice.repository.ReservationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Background job that marks reservations as NO_SHOW which were not picked up by the end of the day.
+ *
+ * <p>A location-day is overdue once its closing time (from the timetable) plus a grace period has
+ * passed; days without opening hours count as closing at midnight. Each overdue location-day is
+ * swept with one UPDATE by {@link ReservationService#sweepNoShows}, which also gives the chickens
+ * back to the inventory. A location-day that changes during its sweep is retried on the next run.
+ * Runs on one node at a time (job lease), so it can be scheduled on all nodes.
+ */
+@Slf4j
+@Component
+public class NoShowSweepJob {
+
+    static final String JOB_NAME = "no-show-sweep";
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationService reservationService;
+    private final TimetableService timetableService;
+    private final JobLeaseService jobLeaseService;
+    private final ReservationMetrics reservationMetrics;
+    private final Duration gracePeriod;
+    private final Duration lease;
+
+    public NoShowSweepJob(
+            ReservationRepository reservationRepository,
+            ReservationService reservationService,
+            TimetableService timetableService,
+            JobLeaseService jobLeaseService,
+            ReservationMetrics reservationMetrics,
+            @Value("${app.reservation.no-show.grace-period:PT1H}") Duration gracePeriod,
+            @Value("${app.reservation.no-show.lease:PT4M}") Duration lease) {
+        this.reservationRepository = reservationRepository;
+        this.reservationService = reservationService;
+        this.timetableService = timetableService;
+        this.jobLeaseService = jobLeaseService;
+        this.reservationMetrics = reservationMetrics;
+        this.gracePeriod = gracePeriod;
+        this.lease = lease;
+    }
+
+    /**
+     * Sweep overdue reservations if this node holds the lease.
+     */
+    @Scheduled(cron = "${app.reservation.no-show.cron:0 */5 * * * *}")
+    public void sweepOverdue() {
+        if (jobLeaseService.tryAcquire(JOB_NAME, lease)) {
+            sweep(LocalDateTime.now());
+        }
+    }
+
+    /**
+     * Mark the CONFIRMED reservations of all location-days that are overdue at a point in time as NO_SHOW.
+     *
+     * @param now the point in time
+     * @return number of reservations marked as NO_SHOW
+     */
+    public int sweep(LocalDateTime now) {
+        List<LocationDay> overdue = reservationRepository
+                .findLocationDaysByStatus(ReservationStatus.CONFIRMED, now.toLocalDate()).stream()
+                .filter(day -> !sweepAfter(day).isAfter(now))
+                .toList();
+
+        int swept = 0;
+        for (LocationDay day : overdue) {
+            int count;
+            try {
+                count = reservationService.sweepNoShows(day.locationId(), day.date());
+            } catch (NoShowSweepConflictException e) {
+                log.warn("Skipped no-show sweep: {}", e.getMessage());
+                continue;
+            }
+            reservationMetrics.recordNoShowSweep(day.locationId(), count);
+            swept += count;
+        }
+
+        if (swept > 0) {
+            log.info("Marked {} reservations of {} location-days as NO_SHOW", swept, overdue.size());
+        } else {
+            log.debug("No overdue reservations");
+        }
+        return swept;
+    }
+
+    private LocalDateTime sweepAfter(LocationDay day) {
+        LocalDateTime closing = timetableService.current()
+                .openingHours(day.locationId(), day.date().getDayOfWeek().getValue())
+                .map(hours -> day.date().atTime(hours.closingTime()))
+                .orElseGet(() -> day.date().plusDays(1).atStartOfDay());
+        return closing.plus(gracePeriod);
+    }
+}
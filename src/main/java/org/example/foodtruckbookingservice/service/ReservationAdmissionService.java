@@ -0,0 +1,261 @@
+package org.example.foodtruckbookingservice.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.foodtruckbookingservice.dto.request.CreateReservationRequest;
+import org.example.foodtruckbookingservice.dto.response.ReservationResponse;
+import org.example.foodtruckbookingservice.exception.CapacityExceededException;
+import org.example.foodtruckbookingservice.exception.LocationNotFoundException;
+import org.example.foodtruckbookingservice.exception.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Admission stage in front of {@link ReservationService#createReservation}.
+ *
+ * <p>Bookings are queued per location and decided in arrival order by one worker per location.
+ * The worker takes everything that arrived within a short batch window and hands it to
+ * {@link ReservationService#createReservations}, which validates location, schedule and
+ * inventory once and commits all accepted reservations in a single transaction (group commit).
+ * Callers still block for their own result, so the API stays synchronous.
+ *
+ * <p>Disabled by default ({@code app.reservation.admission.enabled}); then every booking
+ * goes straight to {@link ReservationService#createReservation}. Each location queues at most
+ * {@code app.reservation.admission.queue-capacity} bookings, further ones are answered with 503.
+ *
+ * <p>Bookings for more chickens than a sold-out location-day has left ({@link SoldOutTracker})
+ * are rejected before they are queued or reach the database.
+ */
+@Slf4j
+@Service
+public class ReservationAdmissionService {
+
+    private final ReservationService reservationService;
+    private final TimetableService timetableService;
+    private final ReservationMetrics reservationMetrics;
+    private final SoldOutTracker soldOutTracker;
+    private final boolean enabled;
+    private final Duration batchWindow;
+    private final int maxBatchSize;
+    private final int queueCapacity;
+    private final Duration timeout;
+
+    private final ConcurrentMap<UUID, LocationLane> lanes = new ConcurrentHashMap<>();
+    private volatile boolean running = true;
+
+    public ReservationAdmissionService(
+            ReservationService reservationService,
+            TimetableService timetableService,
+            ReservationMetrics reservationMetrics,
+            SoldOutTracker soldOutTracker,
+            @Value("${app.reservation.admission.enabled:false}") boolean enabled,
+            @Value("${app.reservation.admission.batch-window:5ms}") Duration batchWindow,
+            @Value("${app.reservation.admission.max-batch-size:50}") int maxBatchSize,
+            @Value("${app.reservation.admission.queue-capacity:500}") int queueCapacity,
+            @Value("${app.reservation.admission.timeout:10s}") Duration timeout) {
+        this.reservationService = reservationService;
+        this.timetableService = timetableService;
+        this.reservationMetrics = reservationMetrics;
+        this.soldOutTracker = soldOutTracker;
+        this.enabled = enabled;
+        this.batchWindow = batchWindow;
+        this.maxBatchSize = maxBatchSize;
+        this.queueCapacity = queueCapacity;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Create a reservation, batched with concurrent bookings for the same location if enabled.
+     * Recorded in {@link ReservationMetrics} including the time spent waiting for the batch.
+     *
+     * @param request the reservation request
+     * @return the created reservation
+     */
+    public ReservationResponse submit(CreateReservationRequest request) {
+        return reservationMetrics.recordCreate(request.getLocationId(), () -> admit(request));
+    }
+
+    private ReservationResponse admit(CreateReservationRequest request) {
+        OptionalInt remaining = soldOutTracker.remaining(request.getLocationId(), LocalDate.now());
+        if (remaining.isPresent() && request.getChickenCount() > remaining.getAsInt()) {
+            reservationMetrics.recordSoldOutRejection(request.getLocationId());
+            throw new CapacityExceededException(request.getChickenCount(), remaining.getAsInt());
+        }
+        if (!enabled) {
+            return reservationService.createReservation(request);
+        }
+        if (!running) {
+            throw new ServiceUnavailableException("Reservierungen sind gerade nicht möglich, bitte erneut versuchen");
+        }
+
+        PendingBooking booking = new PendingBooking(request);
+        if (!laneFor(request.getLocationId()).queue.offer(booking)) {
+            throw new ServiceUnavailableException("Zu viele Reservierungen gleichzeitig, bitte erneut versuchen");
+        }
+        return booking.await(timeout);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        running = false;
+        lanes.values().forEach(lane -> lane.worker.interrupt());
+        lanes.values().forEach(lane -> {
+            PendingBooking booking;
+            while ((booking = lane.queue.poll()) != null) {
+                booking.result.completeExceptionally(
+                        new ServiceUnavailableException("Service is shutting down"));
+            }
+        });
+    }
+
+    private LocationLane laneFor(UUID locationId) {
+        LocationLane lane = lanes.get(locationId);
+        if (lane != null) {
+            return lane;
+        }
+        // Only start workers for existing locations, unknown IDs must not create lanes
+        if (!timetableService.current().contains(locationId)) {
+            throw new LocationNotFoundException(locationId);
+        }
+        return lanes.computeIfAbsent(locationId, LocationLane::new);
+    }
+
+    private void drain(LocationLane lane) {
+        while (running) {
+            try {
+                PendingBooking first = lane.queue.take();
+                List<PendingBooking> batch = new ArrayList<>(maxBatchSize);
+                batch.add(first);
+
+                long deadline = System.nanoTime() + batchWindow.toNanos();
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingBooking next = remaining > 0
+                            ? lane.queue.poll(remaining, TimeUnit.NANOSECONDS)
+                            : lane.queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                process(lane.locationId, batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Admission worker for location {} failed", lane.locationId, e);
+            }
+        }
+    }
+
+    private void process(UUID locationId, List<PendingBooking> batch) {
+        // Bookings whose caller already gave up are dropped before they are decided
+        List<PendingBooking> admitted = batch.stream()
+                .filter(PendingBooking::startProcessing)
+                .toList();
+        if (admitted.isEmpty()) {
+            return;
+        }
+
+        List<ReservationService.BookingOutcome> outcomes;
+        try {
+            outcomes = reservationService.createReservations(
+                    locationId,
+                    admitted.stream().map(booking -> booking.request).toList());
+        } catch (RuntimeException e) {
+            log.error("Batch of {} reservations for location {} failed", admitted.size(), locationId, e);
+            admitted.forEach(booking -> booking.result.completeExceptionally(e));
+            return;
+        }
+
+        for (int i = 0; i < admitted.size(); i++) {
+            ReservationService.BookingOutcome outcome = outcomes.get(i);
+            if (outcome.error() != null) {
+                admitted.get(i).result.completeExceptionally(outcome.error());
+            } else {
+                admitted.get(i).result.complete(outcome.response());
+            }
+        }
+    }
+
+    /**
+     * Queue and worker of one location.
+     */
+    private final class LocationLane {
+
+        private final UUID locationId;
+        private final BlockingQueue<PendingBooking> queue;
+        private final Thread worker;
+
+        private LocationLane(UUID locationId) {
+            this.locationId = locationId;
+            this.queue = new LinkedBlockingQueue<>(queueCapacity);
+            this.worker = Thread.ofVirtual()
+                    .name("admission-" + locationId)
+                    .start(() -> drain(this));
+        }
+    }
+
+    /**
+     * A queued booking and the caller waiting for it.
+     */
+    private static final class PendingBooking {
+
+        private static final int QUEUED = 0;
+        private static final int PROCESSING = 1;
+        private static final int ABANDONED = 2;
+
+        private final CreateReservationRequest request;
+        private final CompletableFuture<ReservationResponse> result = new CompletableFuture<>();
+        private final AtomicInteger state = new AtomicInteger(QUEUED);
+
+        private PendingBooking(CreateReservationRequest request) {
+            this.request = request;
+        }
+
+        private boolean startProcessing() {
+            return state.compareAndSet(QUEUED, PROCESSING);
+        }
+
+        private ReservationResponse await(Duration timeout) {
+            try {
+                try {
+                    return result.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+                } catch (TimeoutException e) {
+                    if (state.compareAndSet(QUEUED, ABANDONED)) {
+                        throw new ServiceUnavailableException(
+                                "Reservierung konnte nicht rechtzeitig bearbeitet werden, bitte erneut versuchen", e);
+                    }
+                    // Already part of a running batch - its transaction decides, so wait for it
+                    return result.get();
+                }
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new IllegalStateException("Reservation failed", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                state.compareAndSet(QUEUED, ABANDONED);
+                throw new ServiceUnavailableException("Reservation was interrupted", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package org.example.foodtruckbookingservice.service;
+
+import org.example.foodtruckbookingservice.dto.response.ReservationResponse;
+
+/**
+ * Published when a reservation was created, cancelled or changed its status.
+ * Live update streams are notified once the publishing transaction has committed.
+ *
+ * @param reservation the reservation after the change
+ */
+public record ReservationChangedEvent(ReservationResponse reservation) {
+}
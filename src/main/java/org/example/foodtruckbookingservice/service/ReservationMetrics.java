@@ -0,0 +1,160 @@
+package org.example.foodtruckbookingservice.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.example.foodtruckbookingservice.dto.response.ReservationResponse;
+import org.example.foodtruckbookingservice.entity.ReservationStatus;
+import org.example.foodtruckbookingservice.exception.BusinessRuleViolationException;
+import org.example.foodtruckbookingservice.exception.CapacityExceededException;
+import org.example.foodtruckbookingservice.exception.InvalidStatusTransitionException;
+import org.example.foodtruckbookingservice.exception.LocationNotFoundException;
+import org.example.foodtruckbookingservice.exception.ReservationNotFoundException;
+import org.example.foodtruckbookingservice.exception.ServiceUnavailableException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Micrometer timers for reservation create, cancel and status change, and counters of
+ * reservations swept to NO_SHOW and of bookings rejected in memory for a sold-out location.
+ *
+ * <p>Every call is recorded with the location name and its outcome: {@code SUCCESS}, the rule code
+ * of a {@link BusinessRuleViolationException} (e.g. {@code LOCATION_CLOSED},
+ * {@code INVENTORY_NOT_SET}) or a fixed code per exception type (e.g. {@code CAPACITY_EXCEEDED}).
+ * The timer count is the number of calls, so sell-outs show up as a rising
+ * {@code CAPACITY_EXCEEDED} rate. Unknown locations are tagged {@code unknown} to keep the
+ * number of time series bounded.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReservationMetrics {
+
+    static final String CREATE_TIMER = "reservation.create";
+    static final String CANCEL_TIMER = "reservation.cancel";
+    static final String STATUS_CHANGE_TIMER = "reservation.status.change";
+    static final String CHICKENS_COUNTER = "reservation.chickens";
+    static final String NO_SHOW_SWEPT_COUNTER = "reservation.noshow.swept";
+    static final String SOLD_OUT_REJECTED_COUNTER = "reservation.soldout.rejected";
+
+    static final String SUCCESS = "SUCCESS";
+    static final String UNKNOWN_LOCATION = "unknown";
+
+    private final MeterRegistry meterRegistry;
+    private final TimetableService timetableService;
+
+    /**
+     * Time a booking and count its chickens if it succeeds.
+     *
+     * @param locationId the requested location
+     * @param booking    the booking
+     * @return the created reservation
+     */
+    public ReservationResponse recordCreate(UUID locationId, Supplier<ReservationResponse> booking) {
+        ReservationResponse response = record(CREATE_TIMER, locationId, Tags.empty(), booking);
+        Counter.builder(CHICKENS_COUNTER)
+                .description("Chickens reserved by successful bookings")
+                .tag("location", locationTag(response.getLocationId()))
+                .register(meterRegistry)
+                .increment(response.getChickenCount());
+        return response;
+    }
+
+    /**
+     * Time a cancellation by the customer.
+     *
+     * @param cancellation the cancellation
+     * @return the cancelled reservation
+     */
+    public ReservationResponse recordCancel(Supplier<ReservationResponse> cancellation) {
+        return record(CANCEL_TIMER, null, Tags.empty(), cancellation);
+    }
+
+    /**
+     * Time a status change by staff.
+     *
+     * @param status the requested status
+     * @param update the status change
+     * @return the updated reservation
+     */
+    public ReservationResponse recordStatusChange(ReservationStatus status, Supplier<ReservationResponse> update) {
+        return record(STATUS_CHANGE_TIMER, null, Tags.of("status", String.valueOf(status)), update);
+    }
+
+    /**
+     * Count reservations marked as NO_SHOW by the end-of-day sweep.
+     *
+     * @param locationId the swept location
+     * @param swept      number of reservations marked as NO_SHOW
+     */
+    public void recordNoShowSweep(UUID locationId, int swept) {
+        Counter.builder(NO_SHOW_SWEPT_COUNTER)
+                .description("Reservations marked as NO_SHOW after closing time")
+                .tag("location", locationTag(locationId))
+                .register(meterRegistry)
+                .increment(swept);
+    }
+
+    /**
+     * Count a booking rejected by {@link SoldOutTracker} without DB access. It is also recorded
+     * by {@link #recordCreate} with outcome {@code CAPACITY_EXCEEDED}.
+     *
+     * @param locationId the requested location
+     */
+    public void recordSoldOutRejection(UUID locationId) {
+        Counter.builder(SOLD_OUT_REJECTED_COUNTER)
+                .description("Bookings rejected in memory because the location is sold out")
+                .tag("location", locationTag(locationId))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private ReservationResponse record(
+            String name, UUID locationId, Tags tags, Supplier<ReservationResponse> call) {
+        long start = System.nanoTime();
+        UUID location = locationId;
+        String outcome = SUCCESS;
+        try {
+            ReservationResponse response = call.get();
+            location = response.getLocationId();
+            return response;
+        } catch (RuntimeException e) {
+            outcome = outcome(e);
+            throw e;
+        } finally {
+            Timer.builder(name)
+                    .tags(tags)
+                    .tag("location", locationTag(location))
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private String locationTag(UUID locationId) {
+        if (locationId == null) {
+            return UNKNOWN_LOCATION;
+        }
+        return timetableService.current().location(locationId)
+                .map(Timetable.Entry::name)
+                .orElse(UNKNOWN_LOCATION);
+    }
+
+    static String outcome(RuntimeException e) {
+        return switch (e) {
+            case BusinessRuleViolationException violation -> violation.getRuleCode();
+            case CapacityExceededException ignored -> "CAPACITY_EXCEEDED";
+            case LocationNotFoundException ignored -> "LOCATION_NOT_FOUND";
+            case ReservationNotFoundException ignored -> "RESERVATION_NOT_FOUND";
+            case InvalidStatusTransitionException ignored -> "INVALID_STATUS_TRANSITION";
+            case ServiceUnavailableException ignored -> "SERVICE_UNAVAILABLE";
+            case CannotCreateTransactionException ignored -> "SERVICE_UNAVAILABLE";
+            default -> "ERROR";
+        };
+    }
+}
@@ -0,0 +1,140 @@
+package org.example.foodtruckbookingservice.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Maintains the monthly partitions of the reservation table (PostgreSQL, see V9 migration).
+ *
+ * <p>Creates the partitions of the current and the next {@code months-ahead} months, so new
+ * reservations never land in the default partition. Partitions that ended more than
+ * {@code retention} ago are detached (kept as plain tables for archiving, invisible to the
+ * application) or dropped. Runs on one node at a time (job lease). Only active with
+ * {@code app.reservation.partitions.enabled=true}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.reservation.partitions.enabled", havingValue = "true")
+public class ReservationPartitionJob {
+
+    static final String JOB_NAME = "reservation-partitions";
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("reservation_y(\\d{4})m(\\d{2})");
+
+    /**
+     * What happens to partitions older than the retention period.
+     */
+    public enum RetentionAction {
+        /** Keep all partitions. */
+        NONE,
+        /** Detach from the reservation table, the data stays in a plain table. */
+        DETACH,
+        /** Delete the data. */
+        DROP
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JobLeaseService jobLeaseService;
+    private final int monthsAhead;
+    private final Period retention;
+    private final RetentionAction retentionAction;
+    private final Duration lease;
+
+    public ReservationPartitionJob(
+            JdbcTemplate jdbcTemplate,
+            JobLeaseService jobLeaseService,
+            @Value("${app.reservation.partitions.months-ahead:3}") int monthsAhead,
+            @Value("${app.reservation.partitions.retention:P24M}") Period retention,
+            @Value("${app.reservation.partitions.retention-action:NONE}") RetentionAction retentionAction,
+            @Value("${app.reservation.partitions.lease:PT10M}") Duration lease) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jobLeaseService = jobLeaseService;
+        this.monthsAhead = monthsAhead;
+        this.retention = retention;
+        this.retentionAction = retentionAction;
+        this.lease = lease;
+    }
+
+    /**
+     * Create upcoming and retire old partitions if this node holds the lease.
+     */
+    @Scheduled(cron = "${app.reservation.partitions.cron:0 30 3 * * *}")
+    public void maintain() {
+        if (jobLeaseService.tryAcquire(JOB_NAME, lease)) {
+            LocalDate today = LocalDate.now();
+            createPartitions(today);
+            retirePartitions(today);
+        }
+    }
+
+    /**
+     * Create the partitions of the month of a date and the following months.
+     *
+     * @param today the date
+     */
+    public void createPartitions(LocalDate today) {
+        YearMonth month = YearMonth.from(today);
+        for (int i = 0; i <= monthsAhead; i++) {
+            LocalDate first = month.plusMonths(i).atDay(1);
+            Boolean created = jdbcTemplate.queryForObject(
+                    "SELECT create_reservation_partition(?)", Boolean.class, first);
+            if (Boolean.TRUE.equals(created)) {
+                log.info("Created reservation partition for {}", month.plusMonths(i));
+            }
+        }
+    }
+
+    /**
+     * Detach or drop the partitions that ended before the retention period.
+     *
+     * @param today the date
+     * @return names of the retired partitions
+     */
+    public List<String> retirePartitions(LocalDate today) {
+        if (retentionAction == RetentionAction.NONE) {
+            return List.of();
+        }
+        YearMonth oldestKept = YearMonth.from(today.minus(retention));
+        List<String> retired = partitions().stream()
+                .filter(name -> month(name).filter(month -> month.isBefore(oldestKept)).isPresent())
+                .toList();
+
+        for (String name : retired) {
+            // Names come from the catalog and match PARTITION_NAME, so they are safe to inline
+            if (retentionAction == RetentionAction.DETACH) {
+                jdbcTemplate.execute("ALTER TABLE reservation DETACH PARTITION " + name);
+            } else {
+                jdbcTemplate.execute("DROP TABLE " + name);
+            }
+            log.info("Reservation partition {}: {} (retention {})", name, retentionAction, retention);
+        }
+        return retired;
+    }
+
+    private List<String> partitions() {
+        return jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+                        "WHERE i.inhparent = 'reservation'::regclass", String.class);
+    }
+
+    private static Optional<YearMonth> month(String partition) {
+        Matcher matcher = PARTITION_NAME.matcher(partition);
+        if (!matcher.matches()) {
+            return Optional.empty(); // default partition
+        }
+        return Optional.of(YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))));
+    }
+}
@@ -0,0 +1,119 @@
+package org.example.foodtruckbookingservice.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.foodtruckbookingservice.dto.response.ReservationResponse;
+import org.example.foodtruckbookingservice.dto.response.ReservationSliceResponse;
+import org.example.foodtruckbookingservice.exception.BusinessRuleViolationException;
+import org.example.foodtruckbookingservice.mapper.ReservationMapper;
+import org.example.foodtruckbookingservice.repository.ReservationFilter;
+import org.example.foodtruckbookingservice.repository.ReservationKey;
+import org.example.foodtruckbookingservice.repository.ReservationRepository;
+import org.example.foodtruckbookingservice.repository.ReservationRow;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Admin reservation search with keyset pagination.
+ *
+ * <p>Unlike the offset pages of {@link ReservationService}, a slice seeks directly to the
+ * position after the previous slice, so page 1000 costs as much as page 1, and no count
+ * query runs unless the caller asks for a total. The total is counted up to
+ * {@code app.reservation.search.total-limit} matches only.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class ReservationSearchService {
+
+    private static final char CURSOR_SEPARATOR = '|';
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationMapper reservationMapper;
+    private final int maxSize;
+    private final int totalLimit;
+
+    public ReservationSearchService(
+            ReservationRepository reservationRepository,
+            ReservationMapper reservationMapper,
+            @Value("${app.reservation.search.max-size:100}") int maxSize,
+            @Value("${app.reservation.search.total-limit:1000}") int totalLimit) {
+        this.reservationRepository = reservationRepository;
+        this.reservationMapper = reservationMapper;
+        this.maxSize = maxSize;
+        this.totalLimit = totalLimit;
+    }
+
+    /**
+     * Get the slice of matching reservations after a cursor, newest first.
+     *
+     * @param filter    the filter
+     * @param cursor    {@code nextCursor} of the previous slice, null for the first slice
+     * @param size      requested slice size (limited to {@code app.reservation.search.max-size})
+     * @param withTotal whether to count the matching reservations
+     * @return the slice
+     */
+    public ReservationSliceResponse search(ReservationFilter filter, String cursor, int size, boolean withTotal) {
+        validate(filter);
+        int limit = Math.clamp(size, 1, maxSize);
+        log.debug("Searching reservations: {}, cursor: {}, size: {}", filter, cursor, limit);
+
+        // One extra row tells whether there is a next slice
+        List<ReservationRow> rows = reservationRepository.search(filter, decodeCursor(cursor), limit + 1);
+        boolean hasNext = rows.size() > limit;
+        List<ReservationRow> slice = hasNext ? rows.subList(0, limit) : rows;
+        List<ReservationResponse> content = slice.stream()
+                .map(reservationMapper::toResponse)
+                .toList();
+
+        ReservationSliceResponse.ReservationSliceResponseBuilder response = ReservationSliceResponse.builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? encodeCursor(slice.getLast()) : null);
+        if (withTotal) {
+            long total = reservationRepository.countUpTo(filter, totalLimit);
+            response.total(Math.min(total, totalLimit))
+                    .totalExact(total <= totalLimit);
+        }
+        return response.build();
+    }
+
+    private static void validate(ReservationFilter filter) {
+        if (filter.dateFrom() != null && filter.dateTo() != null && filter.dateFrom().isAfter(filter.dateTo())) {
+            throw new BusinessRuleViolationException(
+                    "dateFrom darf nicht nach dateTo liegen", "INVALID_DATE_RANGE");
+        }
+        if (filter.pickupFrom() != null && filter.pickupTo() != null && filter.pickupFrom().isAfter(filter.pickupTo())) {
+            throw new BusinessRuleViolationException(
+                    "pickupFrom darf nicht nach pickupTo liegen", "INVALID_PICKUP_WINDOW");
+        }
+    }
+
+    static String encodeCursor(ReservationRow row) {
+        String key = row.createdAt().toString() + CURSOR_SEPARATOR + row.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static ReservationKey decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String key = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = key.indexOf(CURSOR_SEPARATOR);
+            return new ReservationKey(
+                    LocalDateTime.parse(key.substring(0, separator)),
+                    UUID.fromString(key.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BusinessRuleViolationException("Ungültiger Cursor", "INVALID_CURSOR");
+        }
+    }
+}
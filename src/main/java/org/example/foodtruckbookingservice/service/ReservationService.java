@@ -2,34 +2,48 @@ package org.example.foodtruckbookingservice.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.foodtruckbookingservice.dto.request.BulkStatusUpdateRequest;
 import org.example.foodtruckbookingservice.dto.request.CreateReservationRequest;
 import org.example.foodtruckbookingservice.dto.request.UpdateStatusRequest;
+import org.example.foodtruckbookingservice.dto.response.BulkStatusUpdateResponse;
 import org.example.foodtruckbookingservice.dto.response.CapacityResponse;
 import org.example.foodtruckbookingservice.dto.response.ReservationResponse;
+import org.example.foodtruckbookingservice.entity.DailyInventory;
 import org.example.foodtruckbookingservice.entity.Location;
-import org.example.foodtruckbookingservice.entity.LocationSchedule;
 import org.example.foodtruckbookingservice.entity.Reservation;
 import org.example.foodtruckbookingservice.entity.ReservationStatus;
 import org.example.foodtruckbookingservice.exception.BusinessRuleViolationException;
 import org.example.foodtruckbookingservice.exception.CapacityExceededException;
 import org.example.foodtruckbookingservice.exception.InvalidStatusTransitionException;
 import org.example.foodtruckbookingservice.exception.LocationNotFoundException;
+import org.example.foodtruckbookingservice.exception.NoShowSweepConflictException;
 import org.example.foodtruckbookingservice.exception.ReservationNotFoundException;
 import org.example.foodtruckbookingservice.mapper.ReservationMapper;
+import org.example.foodtruckbookingservice.repository.InventorySnapshot;
+import org.example.foodtruckbookingservice.repository.LocationDay;
 import org.example.foodtruckbookingservice.repository.LocationRepository;
-import org.example.foodtruckbookingservice.repository.LocationScheduleRepository;
 import org.example.foodtruckbookingservice.repository.ReservationRepository;
+import org.example.foodtruckbookingservice.repository.ReservationRow;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.security.SecureRandom;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * Service for reservation operations.
@@ -43,15 +57,32 @@ import java.util.UUID;
 @Transactional(readOnly = true)
 public class ReservationService {
 
+    // Rejections with fixed messages are stackless and immutable, so one instance each is enough
+    private static final BusinessRuleViolationException LOCATION_INACTIVE = new BusinessRuleViolationException(
+            "Location is not active",
+            "LOCATION_INACTIVE");
+    private static final BusinessRuleViolationException LOCATION_CLOSED = new BusinessRuleViolationException(
+            "Location is closed today",
+            "LOCATION_CLOSED");
+    private static final BusinessRuleViolationException INVENTORY_NOT_SET = new BusinessRuleViolationException(
+            "Reservierung aktuell nicht möglich - Vorrat wurde noch nicht eingetragen",
+            "INVENTORY_NOT_SET");
+    private static final BusinessRuleViolationException MIN_ORDER_QUANTITY = new BusinessRuleViolationException(
+            "At least one product must be selected",
+            "MIN_ORDER_QUANTITY");
+    private static final BusinessRuleViolationException PICKUP_IN_PAST = new BusinessRuleViolationException(
+            "Abholzeit muss in der Zukunft liegen",
+            "PICKUP_IN_PAST");
+
     private final ReservationRepository reservationRepository;
     private final LocationRepository locationRepository;
-    private final LocationScheduleRepository scheduleRepository;
+    private final TimetableService timetableService;
     private final ReservationMapper reservationMapper;
     private final InventoryService inventoryService;
-
-    private static final String CODE_CHARACTERS = "ABCDEFGHJKLMNPQRSTUVWXYZ23456789";
-    private static final int CODE_LENGTH = 8;
-    private static final SecureRandom RANDOM = new SecureRandom();
+    private final ConfirmationCodeGenerator confirmationCodeGenerator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReservationMetrics reservationMetrics;
+    private final SoldOutTracker soldOutTracker;
 
     /**
      * Create a new reservation (auto-confirmed if inventory available).
@@ -60,65 +91,126 @@ public class ReservationService {
     public ReservationResponse createReservation(CreateReservationRequest request) {
         log.info("Creating reservation for location {}", request.getLocationId());
 
-        // Validate location exists and is active
-        Location location = locationRepository.findById(request.getLocationId())
+        // Validate location exists, is active and open today (from the timetable, no DB access)
+        Timetable.Entry location = timetableService.current().location(request.getLocationId())
                 .orElseThrow(() -> new LocationNotFoundException(request.getLocationId()));
 
-        if (!location.getActive()) {
-            throw new BusinessRuleViolationException(
-                    "Location is not active",
-                    "LOCATION_INACTIVE");
-        }
-
-        // Validate at least one product
-        if (request.getChickenCount() + request.getFriesCount() <= 0) {
-            throw new BusinessRuleViolationException(
-                    "At least one product must be selected",
-                    "MIN_ORDER_QUANTITY");
+        if (!location.active()) {
+            throw LOCATION_INACTIVE;
         }
 
-        // Validate location is open today
         LocalDate today = LocalDate.now();
-        int dayOfWeek = today.getDayOfWeek().getValue();
-        LocationSchedule schedule = scheduleRepository
-                .findByLocationIdAndDayOfWeekAndActiveTrue(request.getLocationId(), dayOfWeek)
-                .orElseThrow(() -> new BusinessRuleViolationException(
-                        "Location is closed today",
-                        "LOCATION_CLOSED"));
+        Timetable.OpeningHours hours = location.hours(today.getDayOfWeek().getValue())
+                .orElseThrow(() -> LOCATION_CLOSED);
 
-        // Validate pickup time if provided
-        if (request.getPickupTime() != null) {
-            validatePickupTime(request.getPickupTime(), schedule);
-        }
-
-        // Check inventory is set and has enough chickens
-        if (!inventoryService.isInventorySet(request.getLocationId())) {
-            throw new BusinessRuleViolationException(
-                    "Reservierung aktuell nicht möglich - Vorrat wurde noch nicht eingetragen",
-                    "INVENTORY_NOT_SET");
-        }
+        validateOrder(request, hours);
 
-        int available = inventoryService.getAvailableChickens(request.getLocationId());
-        if (request.getChickenCount() > available) {
-            throw new CapacityExceededException(request.getChickenCount(), available);
+        // Claim chickens atomically (inventory must be set and have enough chickens left)
+        if (!inventoryService.claimChickens(request.getLocationId(), today, request.getChickenCount())) {
+            throw rejectClaim(request);
         }
 
         // Generate unique confirmation code
-        String confirmationCode = generateUniqueConfirmationCode();
+        String confirmationCode = confirmationCodeGenerator.nextCode();
 
         // Create reservation (auto-confirmed)
         Reservation reservation = reservationMapper.toEntity(request, confirmationCode);
-        reservation.setLocation(location);
+        reservation.setLocation(locationRepository.getReferenceById(location.id()));
 
         Reservation saved = reservationRepository.save(reservation);
         log.info("Created reservation with id: {} and code: {}", saved.getId(), confirmationCode);
 
-        ReservationResponse response = reservationMapper.toResponse(saved);
-        response.setMessage(String.format(
-                "Reservierung erfolgreich! Bitte notieren Sie Ihren Bestätigungscode: %s",
-                confirmationCode));
+        return publishChanged(toCreatedResponse(saved, location));
+    }
 
-        return response;
+    /**
+     * Create a batch of reservations for one location in a single transaction (group commit).
+     *
+     * <p>Location, schedule and inventory are validated once for the whole batch. The inventory
+     * row is locked, the requests are decided in order against its remaining chickens, and all
+     * accepted reservations are claimed with one update and inserted as one JDBC batch.
+     * Business rule rejections of single requests do not affect the others; any other failure
+     * rolls back the whole batch.
+     *
+     * @param locationId the location all requests are for
+     * @param requests   the requests in arrival order
+     * @return one outcome per request, in the same order
+     */
+    @Transactional
+    public List<BookingOutcome> createReservations(UUID locationId, List<CreateReservationRequest> requests) {
+        log.info("Creating batch of {} reservations for location {}", requests.size(), locationId);
+
+        Timetable.Entry entry = timetableService.current().location(locationId).orElse(null);
+        if (entry == null) {
+            return rejectAll(requests, () -> new LocationNotFoundException(locationId));
+        }
+        if (!entry.active()) {
+            return rejectAll(requests, () -> LOCATION_INACTIVE);
+        }
+
+        LocalDate today = LocalDate.now();
+        Timetable.OpeningHours hours = entry.hours(today.getDayOfWeek().getValue()).orElse(null);
+        if (hours == null) {
+            return rejectAll(requests, () -> LOCATION_CLOSED);
+        }
+
+        long generation = soldOutTracker.generation();
+        DailyInventory inventory = inventoryService.lockInventory(locationId, today).orElse(null);
+        if (inventory == null) {
+            return rejectAll(requests, () -> INVENTORY_NOT_SET);
+        }
+
+        int available = Math.max(0, inventory.getTotalChickens() - inventory.getReservedChickens());
+        int remaining = available;
+        boolean soldOut = false;
+        int claimed = 0;
+        List<BookingOutcome> outcomes = new ArrayList<>(requests.size());
+        List<Reservation> accepted = new ArrayList<>();
+        Location location = locationRepository.getReferenceById(locationId);
+
+        for (CreateReservationRequest request : requests) {
+            try {
+                validateOrder(request, hours);
+                if (request.getChickenCount() > remaining) {
+                    soldOut = true;
+                    throw new CapacityExceededException(request.getChickenCount(), remaining);
+                }
+                remaining -= request.getChickenCount();
+                claimed += request.getChickenCount();
+
+                Reservation reservation = reservationMapper.toEntity(request, confirmationCodeGenerator.nextCode());
+                reservation.setLocation(location);
+                accepted.add(reservation);
+                outcomes.add(null);
+            } catch (BusinessRuleViolationException | CapacityExceededException e) {
+                // Anything else (e.g. a failed code block allocation) fails the whole batch
+                outcomes.add(BookingOutcome.rejected(e));
+            }
+        }
+
+        if (soldOut) {
+            // Chickens read before this batch's claim, an upper bound even if the batch rolls back
+            soldOutTracker.observe(locationId, today, available, generation);
+        }
+        if (accepted.isEmpty()) {
+            return outcomes;
+        }
+
+        // Row is locked, so the claim cannot fail unless the counter is out of sync
+        if (!inventoryService.claimChickens(locationId, today, claimed)) {
+            throw new IllegalStateException("Unable to claim " + claimed + " chickens for location " + locationId);
+        }
+
+        List<Reservation> saved = reservationRepository.saveAll(accepted);
+        log.info("Created {} of {} reservations for location {} in one batch", saved.size(), requests.size(), locationId);
+
+        int next = 0;
+        for (int i = 0; i < outcomes.size(); i++) {
+            if (outcomes.get(i) == null) {
+                outcomes.set(i, BookingOutcome.accepted(publishChanged(toCreatedResponse(saved.get(next++), entry))));
+            }
+        }
+        return outcomes;
     }
 
     /**
@@ -146,6 +238,10 @@ public class ReservationService {
      */
     @Transactional
     public ReservationResponse cancelByCode(String confirmationCode) {
+        return reservationMetrics.recordCancel(() -> cancel(confirmationCode));
+    }
+
+    private ReservationResponse cancel(String confirmationCode) {
         log.info("Cancelling reservation by code: {}", confirmationCode);
 
         Reservation reservation = reservationRepository.findByConfirmationCode(confirmationCode.toUpperCase())
@@ -158,14 +254,16 @@ public class ReservationService {
                     ReservationStatus.CANCELLED);
         }
 
+        ReservationStatus oldStatus = reservation.getStatus();
         reservation.setStatus(ReservationStatus.CANCELLED);
         Reservation saved = reservationRepository.save(reservation);
+        adjustInventory(saved, oldStatus);
 
         log.info("Cancelled reservation {} with code {}", saved.getId(), confirmationCode);
 
         ReservationResponse response = reservationMapper.toResponse(saved);
         response.setMessage("Reservierung wurde erfolgreich storniert. Die Hähnchen sind wieder verfügbar.");
-        return response;
+        return publishChanged(response);
     }
 
     /**
@@ -175,7 +273,7 @@ public class ReservationService {
         log.debug("Fetching reservations for location {} on {}", locationId, date);
 
         return reservationRepository
-                .findByLocationIdAndDate(locationId, date)
+                .findRowsByLocationIdAndDate(locationId, date)
                 .stream()
                 .map(reservationMapper::toResponse)
                 .toList();
@@ -186,7 +284,7 @@ public class ReservationService {
      */
     public Page<ReservationResponse> getAllReservations(Pageable pageable) {
         log.debug("Fetching all reservations");
-        return reservationRepository.findAll(pageable)
+        return reservationRepository.findRows(pageable)
                 .map(reservationMapper::toResponse);
     }
 
@@ -195,7 +293,7 @@ public class ReservationService {
      */
     public Page<ReservationResponse> getReservationsForLocation(UUID locationId, Pageable pageable) {
         log.debug("Fetching reservations for location: {}", locationId);
-        return reservationRepository.findByLocationId(locationId, pageable)
+        return reservationRepository.findRowsByLocationId(locationId, pageable)
                 .map(reservationMapper::toResponse);
     }
 
@@ -204,7 +302,7 @@ public class ReservationService {
      */
     public Page<ReservationResponse> getReservationsForDate(LocalDate date, Pageable pageable) {
         log.debug("Fetching reservations for date: {}", date);
-        return reservationRepository.findByReservationDate(date, pageable)
+        return reservationRepository.findRowsByReservationDate(date, pageable)
                 .map(reservationMapper::toResponse);
     }
 
@@ -213,16 +311,20 @@ public class ReservationService {
      */
     public Page<ReservationResponse> getReservationsForLocationAndDate(UUID locationId, LocalDate date, Pageable pageable) {
         log.debug("Fetching reservations for location {} on date {}", locationId, date);
-        return reservationRepository.findByLocationIdAndReservationDate(locationId, date, pageable)
+        return reservationRepository.findRowsByLocationIdAndReservationDate(locationId, date, pageable)
                 .map(reservationMapper::toResponse);
     }
 
     /**
      * Update reservation status.
-     * When marked as COMPLETED, reduces the total inventory by the chicken count.
+     * Releases the reserved chickens on CANCELLED/NO_SHOW and consumes them on COMPLETED.
      */
     @Transactional
     public ReservationResponse updateStatus(UUID reservationId, UpdateStatusRequest request) {
+        return reservationMetrics.recordStatusChange(request.getStatus(), () -> changeStatus(reservationId, request));
+    }
+
+    private ReservationResponse changeStatus(UUID reservationId, UpdateStatusRequest request) {
         log.info("Updating status of reservation {} to {}", reservationId, request.getStatus());
 
         Reservation reservation = findReservationOrThrow(reservationId);
@@ -241,16 +343,135 @@ public class ReservationService {
         Reservation saved = reservationRepository.save(reservation);
         log.info("Updated reservation {} status to {}", reservationId, saved.getStatus());
 
-        // Bei COMPLETED: Hähnchen vom Gesamtvorrat abziehen (die sind jetzt weg)
-        if (request.getStatus() == ReservationStatus.COMPLETED && oldStatus == ReservationStatus.CONFIRMED) {
-            inventoryService.reduceInventory(
-                    reservation.getLocation().getId(),
-                    reservation.getChickenCount()
-            );
-            log.info("Reduced inventory by {} chickens for completed reservation", reservation.getChickenCount());
+        adjustInventory(saved, oldStatus);
+
+        return publishChanged(reservationMapper.toResponse(saved));
+    }
+
+    /**
+     * Update the status of several reservations at once (e.g. closing the day).
+     *
+     * <p>All reservations are loaded with one query and the transitions are checked in memory.
+     * Rejected changes (unknown, duplicate, invalid transition) are reported per item and do not
+     * stop the others. Accepted changes are written with one UPDATE per (old status, new status,
+     * notes) and the inventory of each location-day is adjusted once with the summed chickens.
+     */
+    @Transactional
+    public BulkStatusUpdateResponse updateStatuses(BulkStatusUpdateRequest request) {
+        List<BulkStatusUpdateRequest.Item> items = request.getUpdates();
+        log.info("Updating status of {} reservations", items.size());
+
+        Map<UUID, ReservationRow> rows = reservationRepository
+                .findRowsByIdIn(items.stream().map(BulkStatusUpdateRequest.Item::getReservationId).toList())
+                .stream()
+                .collect(Collectors.toMap(ReservationRow::id, Function.identity()));
+
+        LocalDateTime now = LocalDateTime.now();
+        Set<UUID> seen = new HashSet<>();
+        Map<StatusChange, List<UUID>> changes = new LinkedHashMap<>();
+        Map<LocationDay, Integer> released = new HashMap<>();
+        Map<LocationDay, Integer> consumed = new HashMap<>();
+        List<BulkStatusUpdateResponse.Result> results = new ArrayList<>(items.size());
+        List<ReservationResponse> updated = new ArrayList<>();
+
+        for (BulkStatusUpdateRequest.Item item : items) {
+            UUID id = item.getReservationId();
+            ReservationRow row = rows.get(id);
+            if (!seen.add(id)) {
+                results.add(rejected(item, "DUPLICATE", "Reservation is listed more than once"));
+            } else if (row == null) {
+                results.add(rejected(item, "RESERVATION_NOT_FOUND", "Reservation not found with id: " + id));
+            } else if (!row.status().canTransitionTo(item.getStatus())) {
+                results.add(rejected(item, "INVALID_STATUS_TRANSITION", String.format(
+                        "Invalid status transition from %s to %s", row.status(), item.getStatus())));
+            } else {
+                String notes = item.getNotes() != null && !item.getNotes().isBlank() ? item.getNotes() : null;
+                changes.computeIfAbsent(new StatusChange(row.status(), item.getStatus(), notes),
+                        change -> new ArrayList<>()).add(id);
+
+                if (row.status() == ReservationStatus.CONFIRMED) {
+                    LocationDay day = new LocationDay(row.locationId(), row.reservationDate());
+                    switch (item.getStatus()) {
+                        case CANCELLED, NO_SHOW -> released.merge(day, row.chickenCount(), Integer::sum);
+                        case COMPLETED -> consumed.merge(day, row.chickenCount(), Integer::sum);
+                        default -> {
+                            // still holding its chickens
+                        }
+                    }
+                }
+
+                ReservationResponse response = reservationMapper.toResponse(
+                        row.withStatus(item.getStatus(), notes != null ? notes : row.notes(), now));
+                updated.add(response);
+                results.add(BulkStatusUpdateResponse.Result.builder()
+                        .reservationId(id)
+                        .status(item.getStatus())
+                        .outcome("UPDATED")
+                        .reservation(response)
+                        .build());
+            }
         }
 
-        return reservationMapper.toResponse(saved);
+        changes.forEach((change, ids) -> {
+            int count = change.notes() == null
+                    ? reservationRepository.updateStatus(ids, change.from(), change.to(), now)
+                    : reservationRepository.updateStatusAndNotes(ids, change.from(), change.to(), change.notes(), now);
+            if (count != ids.size()) {
+                // Changed by someone else since they were loaded - roll back all and let staff reload
+                throw new BusinessRuleViolationException(
+                        "Reservierungen wurden zwischenzeitlich geändert, bitte neu laden",
+                        "CONCURRENT_STATUS_CHANGE");
+            }
+        });
+
+        Set<LocationDay> days = new HashSet<>(released.keySet());
+        days.addAll(consumed.keySet());
+        days.forEach(day -> inventoryService.settleChickens(day.locationId(), day.date(),
+                released.getOrDefault(day, 0), consumed.getOrDefault(day, 0)));
+
+        updated.forEach(this::publishChanged);
+        log.info("Updated status of {} of {} reservations", updated.size(), items.size());
+
+        return BulkStatusUpdateResponse.builder()
+                .results(results)
+                .updated(updated.size())
+                .rejected(items.size() - updated.size())
+                .build();
+    }
+
+    /**
+     * Mark all CONFIRMED reservations of a location-day as NO_SHOW (end-of-day sweep)
+     * and give exactly their chickens back to the inventory.
+     * Every swept reservation is published as changed once committed.
+     *
+     * @param locationId the location ID
+     * @param date       the reservation date
+     * @return number of reservations marked as NO_SHOW
+     * @throws NoShowSweepConflictException if one of them was changed concurrently (nothing is swept)
+     */
+    @Transactional
+    public int sweepNoShows(UUID locationId, LocalDate date) {
+        List<ReservationRow> rows = reservationRepository.findRowsByLocationIdAndDateAndStatus(
+                locationId, date, ReservationStatus.CONFIRMED);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int swept = reservationRepository.updateStatus(
+                rows.stream().map(ReservationRow::id).toList(),
+                ReservationStatus.CONFIRMED, ReservationStatus.NO_SHOW, now);
+        if (swept != rows.size()) {
+            // Changed by staff since they were loaded - roll back, the next run sweeps the rest
+            throw new NoShowSweepConflictException(locationId, date);
+        }
+
+        inventoryService.releaseChickens(locationId, date,
+                rows.stream().mapToInt(ReservationRow::chickenCount).sum());
+        rows.forEach(row -> publishChanged(reservationMapper.toResponse(
+                row.withStatus(ReservationStatus.NO_SHOW, row.notes(), now))));
+        log.info("Marked {} reservations of location {} on {} as NO_SHOW", swept, locationId, date);
+        return swept;
     }
 
     /**
@@ -259,56 +480,112 @@ public class ReservationService {
     public CapacityResponse getCapacity(UUID locationId, LocalDate date) {
         log.debug("Getting capacity for location {} on {}", locationId, date);
 
-        Location location = locationRepository.findById(locationId)
-                .orElseThrow(() -> new LocationNotFoundException(locationId));
+        InventorySnapshot snapshot = inventoryService.getSnapshot(locationId, date);
 
-        // Use inventory service for today
+        // Only same-day capacity is tracked
         if (date.equals(LocalDate.now())) {
-            return buildCapacityFromInventory(location, date);
+            return buildCapacityFromInventory(snapshot, date);
         }
 
         // For other dates, return empty (only same-day)
-        return buildEmptyCapacityResponse(location, date);
+        return buildEmptyCapacityResponse(snapshot, date);
+    }
+
+    private void validateOrder(CreateReservationRequest request, Timetable.OpeningHours hours) {
+        // Validate at least one product
+        if (request.getChickenCount() + request.getFriesCount() <= 0) {
+            throw MIN_ORDER_QUANTITY;
+        }
+
+        // Validate pickup time if provided
+        if (request.getPickupTime() != null) {
+            validatePickupTime(request.getPickupTime(), hours);
+        }
     }
 
-    private void validatePickupTime(LocalTime pickupTime, LocationSchedule schedule) {
+    private void validatePickupTime(LocalTime pickupTime, Timetable.OpeningHours hours) {
         // Must be in the future
         LocalTime now = LocalTime.now();
         if (pickupTime.isBefore(now)) {
-            throw new BusinessRuleViolationException(
-                    "Abholzeit muss in der Zukunft liegen",
-                    "PICKUP_IN_PAST");
+            throw PICKUP_IN_PAST;
         }
 
         // Must be within opening hours
-        if (pickupTime.isBefore(schedule.getOpeningTime()) ||
-                pickupTime.isAfter(schedule.getClosingTime())) {
+        if (!hours.contains(pickupTime)) {
             throw new BusinessRuleViolationException(
                     String.format("Abholzeit muss innerhalb der Öffnungszeiten liegen (%s - %s)",
-                            schedule.getOpeningTime(), schedule.getClosingTime()),
+                            hours.openingTime(), hours.closingTime()),
                     "OUTSIDE_OPENING_HOURS");
         }
     }
 
-    private String generateUniqueConfirmationCode() {
-        String code;
-        int attempts = 0;
-        do {
-            code = generateRandomCode();
-            attempts++;
-            if (attempts > 100) {
-                throw new IllegalStateException("Unable to generate unique confirmation code");
-            }
-        } while (reservationRepository.existsByConfirmationCode(code));
-        return code;
+    /**
+     * Build the rejection for a failed chicken claim.
+     * Only runs on the rejection path, so the successful booking needs no extra read.
+     */
+    private RuntimeException rejectClaim(CreateReservationRequest request) {
+        if (!inventoryService.isInventorySet(request.getLocationId())) {
+            return INVENTORY_NOT_SET;
+        }
+        long generation = soldOutTracker.generation();
+        int available = inventoryService.getAvailableChickens(request.getLocationId());
+        soldOutTracker.observe(request.getLocationId(), LocalDate.now(), available, generation);
+        return new CapacityExceededException(request.getChickenCount(), available);
+    }
+
+    private static List<BookingOutcome> rejectAll(
+            List<CreateReservationRequest> requests,
+            Supplier<? extends RuntimeException> rejection) {
+        return requests.stream()
+                .map(request -> BookingOutcome.rejected(rejection.get()))
+                .toList();
+    }
+
+    private static BulkStatusUpdateResponse.Result rejected(
+            BulkStatusUpdateRequest.Item item, String outcome, String message) {
+        return BulkStatusUpdateResponse.Result.builder()
+                .reservationId(item.getReservationId())
+                .status(item.getStatus())
+                .outcome(outcome)
+                .message(message)
+                .build();
     }
 
-    private String generateRandomCode() {
-        StringBuilder sb = new StringBuilder(CODE_LENGTH);
-        for (int i = 0; i < CODE_LENGTH; i++) {
-            sb.append(CODE_CHARACTERS.charAt(RANDOM.nextInt(CODE_CHARACTERS.length())));
+    /**
+     * Notify live update streams about the change (delivered after commit).
+     */
+    private ReservationResponse publishChanged(ReservationResponse response) {
+        eventPublisher.publishEvent(new ReservationChangedEvent(response));
+        return response;
+    }
+
+    private ReservationResponse toCreatedResponse(Reservation saved, Timetable.Entry location) {
+        ReservationResponse response = reservationMapper.toResponse(saved, location);
+        response.setMessage(String.format(
+                "Reservierung erfolgreich! Bitte notieren Sie Ihren Bestätigungscode: %s",
+                saved.getConfirmationCode()));
+        return response;
+    }
+
+    /**
+     * Keep the reserved_chickens counter in sync when a CONFIRMED reservation leaves that state.
+     * CANCELLED/NO_SHOW give the chickens back, COMPLETED takes them out of the inventory
+     * (die sind jetzt weg).
+     */
+    private void adjustInventory(Reservation reservation, ReservationStatus oldStatus) {
+        if (oldStatus != ReservationStatus.CONFIRMED) {
+            return;
+        }
+        UUID locationId = reservation.getLocation().getId();
+        switch (reservation.getStatus()) {
+            case CANCELLED, NO_SHOW -> inventoryService.releaseChickens(
+                    locationId, reservation.getReservationDate(), reservation.getChickenCount());
+            case COMPLETED -> inventoryService.consumeChickens(
+                    locationId, reservation.getReservationDate(), reservation.getChickenCount());
+            default -> {
+                // still holding its chickens
+            }
         }
-        return sb.toString();
     }
 
     private Reservation findReservationOrThrow(UUID reservationId) {
@@ -316,34 +593,15 @@ public class ReservationService {
                 .orElseThrow(() -> new ReservationNotFoundException(reservationId));
     }
 
-    private CapacityResponse buildCapacityFromInventory(Location location, LocalDate date) {
-        int dayOfWeek = date.getDayOfWeek().getValue();
-        LocationSchedule schedule = scheduleRepository
-                .findByLocationIdAndDayOfWeekAndActiveTrue(location.getId(), dayOfWeek)
-                .orElse(null);
-
-        if (schedule == null) {
-            return buildEmptyCapacityResponse(location, date);
+    private CapacityResponse buildCapacityFromInventory(InventorySnapshot snapshot, LocalDate date) {
+        boolean open = timetableService.current()
+                .openingHours(snapshot.locationId(), date.getDayOfWeek().getValue())
+                .isPresent();
+        if (!open || !snapshot.isInventorySet()) {
+            return buildEmptyCapacityResponse(snapshot, date);
         }
 
-        var inventoryResponse = inventoryService.getInventory(location.getId(), date);
-
-        if (!inventoryResponse.getInventorySet()) {
-            return CapacityResponse.builder()
-                    .locationId(location.getId())
-                    .locationName(location.getName())
-                    .date(date)
-                    .totalCapacity(0)
-                    .reserved(CapacityResponse.ReservedCapacity.builder()
-                            .pending(0)
-                            .confirmed(0)
-                            .total(0)
-                            .build())
-                    .available(0)
-                    .utilizationPercent(0.0)
-                    .status(CapacityResponse.CapacityStatus.FULL)
-                    .build();
-        }
+        var inventoryResponse = inventoryService.toInventoryResponse(snapshot, date);
 
         int totalChickens = inventoryResponse.getTotalChickens();
         int reservedChickens = inventoryResponse.getReservedChickens();
@@ -351,8 +609,8 @@ public class ReservationService {
         double utilization = inventoryResponse.getUtilizationPercent();
 
         return CapacityResponse.builder()
-                .locationId(location.getId())
-                .locationName(location.getName())
+                .locationId(snapshot.locationId())
+                .locationName(snapshot.locationName())
                 .date(date)
                 .totalCapacity(totalChickens)
                 .reserved(CapacityResponse.ReservedCapacity.builder()
@@ -366,10 +624,10 @@ public class ReservationService {
                 .build();
     }
 
-    private CapacityResponse buildEmptyCapacityResponse(Location location, LocalDate date) {
+    private CapacityResponse buildEmptyCapacityResponse(InventorySnapshot snapshot, LocalDate date) {
         return CapacityResponse.builder()
-                .locationId(location.getId())
-                .locationName(location.getName())
+                .locationId(snapshot.locationId())
+                .locationName(snapshot.locationName())
                 .date(date)
                 .totalCapacity(0)
                 .reserved(CapacityResponse.ReservedCapacity.builder()
@@ -398,4 +656,25 @@ public class ReservationService {
             return CapacityResponse.CapacityStatus.ALMOST_FULL;
         }
     }
+
+    /**
+     * Outcome of a single request within {@link #createReservations(UUID, List)}.
+     * Exactly one of {@code response} and {@code error} is set.
+     *
+     * @param response the created reservation, if accepted
+     * @param error    the rejection, if rejected
+     */
+    public record BookingOutcome(ReservationResponse response, RuntimeException error) {
+
+        static BookingOutcome accepted(ReservationResponse response) {
+            return new BookingOutcome(response, null);
+        }
+
+        static BookingOutcome rejected(RuntimeException error) {
+            return new BookingOutcome(null, error);
+        }
+    }
+
+    private record StatusChange(ReservationStatus from, ReservationStatus to, String notes) {
+    }
 }
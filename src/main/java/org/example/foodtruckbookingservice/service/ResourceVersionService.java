@@ -0,0 +1,114 @@
+package org.example.foodtruckbookingservice.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory change counters for ETags of the public read endpoints.
+ *
+ * <p>Location and schedule data are versioned by {@link TimetableService#version()}, availability by
+ * a counter per location that is increased after every committed reservation or inventory change.
+ * ETags can therefore be compared without DB access.
+ *
+ * <p>Counters live in this instance only. Every ETag contains a random instance ID, so after a
+ * restart or when served by another instance it simply does not match (one extra 200). Bookings
+ * committed on another instance do not increase the counters here, so availability ETags also
+ * contain the current time slot of {@code app.availability.etag-validity}: a client polling one
+ * instance sees such changes after at most that long instead of getting 304s indefinitely.
+ */
+@Service
+public class ResourceVersionService {
+
+    private final String instanceId = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+    private final AtomicLong availabilityVersion = new AtomicLong();
+    private final ConcurrentMap<UUID, AtomicLong> locationVersions = new ConcurrentHashMap<>();
+
+    private final TimetableService timetableService;
+    private final long availabilityValidityMillis;
+    private final Clock clock;
+
+    @Autowired
+    public ResourceVersionService(
+            TimetableService timetableService,
+            @Value("${app.availability.etag-validity:5s}") Duration availabilityValidity) {
+        this(timetableService, availabilityValidity, Clock.systemUTC());
+    }
+
+    ResourceVersionService(TimetableService timetableService, Duration availabilityValidity, Clock clock) {
+        this.timetableService = timetableService;
+        this.availabilityValidityMillis = availabilityValidity.toMillis();
+        this.clock = clock;
+    }
+
+    /**
+     * @return ETag of location and schedule data (locations, weekly schedule, location schedule)
+     */
+    public String catalogETag() {
+        return "c" + timetableService.version() + "-" + instanceId;
+    }
+
+    /**
+     * @return ETag of the locations open today (location and schedule data of today's weekday)
+     */
+    public String todayCatalogETag() {
+        return "d" + timetableService.version() + "-" + LocalDate.now() + "-" + instanceId;
+    }
+
+    /**
+     * @param locationId the location ID
+     * @param date       the requested date (availability depends on it being today)
+     * @return ETag of the availability of a location-day
+     */
+    public String availabilityETag(UUID locationId, LocalDate date) {
+        AtomicLong locationVersion = locationVersions.get(locationId);
+        return "a" + timetableService.version()
+                + "." + (locationVersion != null ? locationVersion.get() : 0)
+                + "." + availabilitySlot()
+                + "-" + date + "-" + LocalDate.now()
+                + "-" + instanceId;
+    }
+
+    /**
+     * @return ETag of the availability of all locations open today
+     */
+    public String todayAvailabilityETag() {
+        return "t" + timetableService.version()
+                + "." + availabilityVersion.get()
+                + "." + availabilitySlot()
+                + "-" + LocalDate.now()
+                + "-" + instanceId;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    void onReservationChanged(ReservationChangedEvent event) {
+        increment(event.reservation().getLocationId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    void onInventoryChanged(InventoryChangedEvent event) {
+        increment(event.locationId());
+    }
+
+    private void increment(UUID locationId) {
+        // Increased after commit: a response computed from older data can never carry the new version
+        // Counters are only created here, so requests for unknown location IDs cannot grow the map
+        locationVersions.computeIfAbsent(locationId, id -> new AtomicLong()).incrementAndGet();
+        availabilityVersion.incrementAndGet();
+    }
+
+    private long availabilitySlot() {
+        return clock.millis() / availabilityValidityMillis;
+    }
+}
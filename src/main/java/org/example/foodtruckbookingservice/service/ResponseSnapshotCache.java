@@ -0,0 +1,97 @@
+package org.example.foodtruckbookingservice.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialized JSON of the public read endpoints, kept per resource and data version.
+ *
+ * <p>The version is the resource's ETag from {@link ResourceVersionService}, which changes after
+ * every committed change of the underlying data. A snapshot is rebuilt on the first request
+ * that sees a different version (or after {@code maxAge}), all other requests get the same bytes
+ * and, above {@code app.response-snapshot.gzip-min-size}, a pre-gzipped variant.
+ *
+ * <p>Keys must come from a bounded set (one per endpoint and location), one snapshot is kept per key.
+ */
+@Component
+public class ResponseSnapshotCache {
+
+    private final JsonMapper jsonMapper;
+    private final int gzipMinSize;
+    private final ConcurrentMap<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    public ResponseSnapshotCache(
+            JsonMapper jsonMapper,
+            @Value("${app.response-snapshot.gzip-min-size:2KB}") DataSize gzipMinSize) {
+        this.jsonMapper = jsonMapper;
+        this.gzipMinSize = (int) gzipMinSize.toBytes();
+    }
+
+    /**
+     * @param key     the resource
+     * @param version the current version of the resource
+     * @param maxAge  how long a snapshot may be served for the same version, {@code null} for no limit
+     * @param body    builds the response body if there is no current snapshot
+     * @return the snapshot of the current version
+     */
+    public Snapshot get(String key, String version, Duration maxAge, Supplier<?> body) {
+        Snapshot snapshot = snapshots.get(key);
+        long now = System.nanoTime();
+        if (snapshot != null && snapshot.version().equals(version)
+                && (maxAge == null || now - snapshot.createdAt() < maxAge.toNanos())) {
+            return snapshot;
+        }
+        // Concurrent rebuilds of the same version produce the same bytes, the last one is kept
+        Snapshot rebuilt = serialize(version, body.get(), now);
+        snapshots.put(key, rebuilt);
+        return rebuilt;
+    }
+
+    /**
+     * Serialize a body that is not cached, e.g. availability of another day than today.
+     *
+     * @param version the version of the body
+     * @param body    the response body
+     * @return the serialized body
+     */
+    public Snapshot serialize(String version, Object body) {
+        return serialize(version, body, System.nanoTime());
+    }
+
+    private Snapshot serialize(String version, Object body, long createdAt) {
+        byte[] json = jsonMapper.writeValueAsBytes(body);
+        return new Snapshot(version, json, json.length >= gzipMinSize ? gzip(json) : null, createdAt);
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Serialized response body of one version.
+     *
+     * @param version   the version (ETag) the body belongs to
+     * @param json      the JSON body
+     * @param gzip      the gzipped JSON body, {@code null} if the body is too small to be worth it
+     * @param createdAt {@link System#nanoTime()} when the snapshot was built
+     */
+    public record Snapshot(String version, byte[] json, byte[] gzip, long createdAt) {
+    }
+}
@@ -0,0 +1,109 @@
+package org.example.foodtruckbookingservice.service;
+
+import org.example.foodtruckbookingservice.entity.ReservationStatus;
+import org.example.foodtruckbookingservice.repository.LocationDay;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.OptionalInt;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory remaining chickens per location-day, so bookings for a sold-out truck can be
+ * rejected before a transaction is opened.
+ *
+ * <p>Remaining chickens are only recorded when a booking was rejected for capacity. Bookings
+ * only ever lower the remaining count, so a recorded value stays an upper bound and rejecting
+ * requests above it is always correct. Anything that can raise it (cancellation, status change,
+ * inventory change, timetable change) removes the entry once committed; an observation read
+ * before such a change is discarded via {@link #generation()}.
+ *
+ * <p>Entries live in this instance only. Changes committed on other instances are seen once an
+ * entry expires ({@code app.reservation.sold-out.ttl}).
+ */
+@Component
+public class SoldOutTracker {
+
+    private final long ttlNanos;
+    private final ConcurrentMap<LocationDay, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public SoldOutTracker(@Value("${app.reservation.sold-out.ttl:10s}") Duration ttl) {
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * @return the current generation, to be taken before remaining chickens are read from the DB
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Record the remaining chickens read from the DB, unless a change was committed in between.
+     *
+     * @param locationId the location ID
+     * @param date       the inventory date
+     * @param remaining  remaining chickens
+     * @param generation the {@link #generation()} taken before the read
+     */
+    public void observe(UUID locationId, LocalDate date, int remaining, long generation) {
+        entries.keySet().removeIf(key -> key.date().isBefore(date));
+        entries.put(new LocationDay(locationId, date), new Entry(remaining, System.nanoTime()));
+        if (this.generation.get() != generation) {
+            entries.remove(new LocationDay(locationId, date));
+        }
+    }
+
+    /**
+     * @param locationId the location ID
+     * @param date       the inventory date
+     * @return an upper bound of the remaining chickens, empty if unknown or expired
+     */
+    public OptionalInt remaining(UUID locationId, LocalDate date) {
+        LocationDay key = new LocationDay(locationId, date);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return OptionalInt.empty();
+        }
+        if (System.nanoTime() - entry.observedAt() >= ttlNanos) {
+            entries.remove(key, entry);
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(entry.remaining());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    void onReservationChanged(ReservationChangedEvent event) {
+        // New bookings only lower the remaining chickens, every other change may raise them
+        if (event.reservation().getStatus() != ReservationStatus.CONFIRMED) {
+            forget(event.reservation().getLocationId(), event.reservation().getReservationDate());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    void onInventoryChanged(InventoryChangedEvent event) {
+        forget(event.locationId(), event.date());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    void onTimetableChanged(TimetableChangedEvent event) {
+        generation.incrementAndGet();
+        entries.keySet().removeIf(key -> key.locationId().equals(event.locationId()));
+    }
+
+    private void forget(UUID locationId, LocalDate date) {
+        generation.incrementAndGet();
+        entries.remove(new LocationDay(locationId, date));
+    }
+
+    private record Entry(int remaining, long observedAt) {
+    }
+}
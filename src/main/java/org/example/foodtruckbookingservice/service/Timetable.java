@@ -0,0 +1,219 @@
+package org.example.foodtruckbookingservice.service;
+
+import org.example.foodtruckbookingservice.entity.Location;
+import org.example.foodtruckbookingservice.entity.LocationSchedule;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable opening-hours timetable of all locations (locations x 7 weekdays).
+ *
+ * <p>Built from the database by {@link TimetableService} and replaced as a whole when
+ * locations or schedules change, so all lookups are plain map reads without DB access.
+ * Days of week are ISO 8601 (1=Monday, 7=Sunday) like in {@link LocationSchedule}.
+ */
+public final class Timetable {
+
+    private static final Comparator<Entry> BY_NAME = Comparator.comparing(Entry::name);
+
+    private final Map<UUID, Entry> locations;
+    private final Map<Integer, List<Entry>> openByDay;
+
+    private Timetable(Map<UUID, Entry> locations) {
+        this.locations = Map.copyOf(locations);
+        Map<Integer, List<Entry>> byDay = new HashMap<>();
+        for (int day = 1; day <= 7; day++) {
+            int dayOfWeek = day;
+            byDay.put(day, locations.values().stream()
+                    .filter(entry -> entry.active() && entry.hours(dayOfWeek).isPresent())
+                    .sorted(BY_NAME)
+                    .toList());
+        }
+        this.openByDay = Map.copyOf(byDay);
+    }
+
+    /**
+     * Build a timetable from all locations and their active schedules.
+     *
+     * @param locations all locations (active and inactive)
+     * @param schedules active schedules
+     * @return the timetable
+     */
+    public static Timetable of(Collection<Location> locations, Collection<LocationSchedule> schedules) {
+        Map<UUID, Map<Integer, OpeningHours>> hoursByLocation = schedules.stream()
+                .filter(LocationSchedule::getActive)
+                .collect(Collectors.groupingBy(
+                        schedule -> schedule.getLocation().getId(),
+                        Collectors.toMap(LocationSchedule::getDayOfWeek, OpeningHours::of)));
+
+        Map<UUID, Entry> entries = new HashMap<>();
+        for (Location location : locations) {
+            entries.put(location.getId(), new Entry(
+                    location.getId(),
+                    location.getName(),
+                    location.getAddress(),
+                    location.getLatitude(),
+                    location.getLongitude(),
+                    Boolean.TRUE.equals(location.getActive()),
+                    location.getCreatedAt(),
+                    location.getUpdatedAt(),
+                    Map.copyOf(hoursByLocation.getOrDefault(location.getId(), Map.of()))));
+        }
+        return new Timetable(entries);
+    }
+
+    /**
+     * @return an empty timetable
+     */
+    public static Timetable empty() {
+        return new Timetable(Map.of());
+    }
+
+    /**
+     * @param locationId the location ID
+     * @return the location, empty if it does not exist
+     */
+    public Optional<Entry> location(UUID locationId) {
+        return Optional.ofNullable(locations.get(locationId));
+    }
+
+    /**
+     * @param locationId the location ID
+     * @return true if the location exists (active or not)
+     */
+    public boolean contains(UUID locationId) {
+        return locations.containsKey(locationId);
+    }
+
+    /**
+     * Opening hours of a location on a weekday, regardless of whether the location is active.
+     *
+     * @param locationId the location ID
+     * @param dayOfWeek  the day of week (1=Monday, 7=Sunday)
+     * @return the opening hours, empty if closed on that day or the location does not exist
+     */
+    public Optional<OpeningHours> openingHours(UUID locationId, int dayOfWeek) {
+        return location(locationId).flatMap(entry -> entry.hours(dayOfWeek));
+    }
+
+    /**
+     * @param locationId the location ID
+     * @param date       the date
+     * @return true if the location is active and has opening hours on that date
+     */
+    public boolean isOpenOn(UUID locationId, LocalDate date) {
+        return location(locationId)
+                .filter(Entry::active)
+                .flatMap(entry -> entry.hours(date.getDayOfWeek().getValue()))
+                .isPresent();
+    }
+
+    /**
+     * @param locationId the location ID
+     * @param dateTime   the point in time
+     * @return true if the location is active and open at that time
+     */
+    public boolean isOpenAt(UUID locationId, LocalDateTime dateTime) {
+        return location(locationId)
+                .filter(Entry::active)
+                .flatMap(entry -> entry.hours(dateTime.getDayOfWeek().getValue()))
+                .filter(hours -> hours.contains(dateTime.toLocalTime()))
+                .isPresent();
+    }
+
+    /**
+     * Next time the location opens after the given time (within the next 7 days).
+     * If it is open at that time, this is the start of the next opening, not the current one.
+     *
+     * @param locationId the location ID
+     * @param dateTime   the point in time
+     * @return the next opening, empty if the location is inactive or never open
+     */
+    public Optional<LocalDateTime> nextOpening(UUID locationId, LocalDateTime dateTime) {
+        Entry entry = locations.get(locationId);
+        if (entry == null || !entry.active()) {
+            return Optional.empty();
+        }
+        for (int offset = 0; offset <= 7; offset++) {
+            LocalDate date = dateTime.toLocalDate().plusDays(offset);
+            Optional<LocalDateTime> opening = entry.hours(date.getDayOfWeek().getValue())
+                    .map(hours -> date.atTime(hours.openingTime()))
+                    .filter(start -> start.isAfter(dateTime));
+            if (opening.isPresent()) {
+                return opening;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Active locations open on a weekday, sorted by name.
+     *
+     * @param dayOfWeek the day of week (1=Monday, 7=Sunday)
+     * @return the open locations
+     */
+    public List<Entry> openOn(int dayOfWeek) {
+        return openByDay.getOrDefault(dayOfWeek, List.of());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || (other instanceof Timetable timetable && locations.equals(timetable.locations));
+    }
+
+    @Override
+    public int hashCode() {
+        return locations.hashCode();
+    }
+
+    /**
+     * A location and its opening hours per weekday.
+     */
+    public record Entry(
+            UUID id,
+            String name,
+            String address,
+            Double latitude,
+            Double longitude,
+            boolean active,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt,
+            Map<Integer, OpeningHours> openingHours) {
+
+        /**
+         * @param dayOfWeek the day of week (1=Monday, 7=Sunday)
+         * @return the opening hours, empty if closed on that day
+         */
+        public Optional<OpeningHours> hours(int dayOfWeek) {
+            return Optional.ofNullable(openingHours.get(dayOfWeek));
+        }
+    }
+
+    /**
+     * Opening interval of one day.
+     */
+    public record OpeningHours(LocalTime openingTime, LocalTime closingTime) {
+
+        static OpeningHours of(LocationSchedule schedule) {
+            return new OpeningHours(schedule.getOpeningTime(), schedule.getClosingTime());
+        }
+
+        /**
+         * @param time the time of day
+         * @return true if the time is within the opening hours (both ends included)
+         */
+        public boolean contains(LocalTime time) {
+            return !time.isBefore(openingTime) && !time.isAfter(closingTime);
+        }
+    }
+}
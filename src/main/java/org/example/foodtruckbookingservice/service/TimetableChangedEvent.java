@@ -0,0 +1,12 @@
+package org.example.foodtruckbookingservice.service;
+
+import java.util.UUID;
+
+/**
+ * Published when a location or one of its schedules was changed.
+ * The timetable is rebuilt once the publishing transaction has committed.
+ *
+ * @param locationId the changed location
+ */
+public record TimetableChangedEvent(UUID locationId) {
+}
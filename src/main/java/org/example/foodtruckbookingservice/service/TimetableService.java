@@ -0,0 +1,98 @@
+package org.example.foodtruckbookingservice.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.foodtruckbookingservice.entity.Location;
+import org.example.foodtruckbookingservice.entity.LocationSchedule;
+import org.example.foodtruckbookingservice.repository.LocationRepository;
+import org.example.foodtruckbookingservice.repository.LocationScheduleRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Holds the current {@link Timetable} and swaps it when locations or schedules change.
+ *
+ * <p>The timetable is built at startup and rebuilt after every committed change
+ * ({@link TimetableChangedEvent}). The periodic refresh picks up changes made on other
+ * instances or directly in the database.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TimetableService {
+
+    private final LocationRepository locationRepository;
+    private final LocationScheduleRepository scheduleRepository;
+
+    private final AtomicLong version = new AtomicLong();
+    // Not synchronized: the rebuild queries must not pin a virtual thread to its carrier
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile Timetable timetable;
+
+    /**
+     * @return the current timetable (built on first access if not loaded yet)
+     */
+    public Timetable current() {
+        Timetable current = timetable;
+        return current != null ? current : refresh();
+    }
+
+    /**
+     * Version of the location and schedule data, increased whenever a refresh builds a different
+     * timetable. Changes made through the API count right after their commit, changes made
+     * elsewhere once the periodic refresh sees them.
+     *
+     * @return the current version
+     */
+    public long version() {
+        return version.get();
+    }
+
+    /**
+     * Rebuild the timetable from the database and swap it in.
+     *
+     * @return the new timetable
+     */
+    public Timetable refresh() {
+        refreshLock.lock();
+        try {
+            List<Location> locations = locationRepository.findAll();
+            List<LocationSchedule> schedules = scheduleRepository.findByActiveTrue();
+            Timetable rebuilt = Timetable.of(locations, schedules);
+            Timetable previous = timetable;
+            timetable = rebuilt;
+            if (!rebuilt.equals(previous)) {
+                version.incrementAndGet();
+            }
+            log.debug("Timetable rebuilt: {} locations, {} schedules", locations.size(), schedules.size());
+            return rebuilt;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.timetable.refresh-interval:PT5M}",
+            initialDelayString = "${app.timetable.refresh-interval:PT5M}")
+    void refreshPeriodically() {
+        refresh();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void onStartup() {
+        refresh();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    void onTimetableChanged(TimetableChangedEvent event) {
+        log.info("Location {} changed, rebuilding timetable", event.locationId());
+        refresh();
+    }
+}
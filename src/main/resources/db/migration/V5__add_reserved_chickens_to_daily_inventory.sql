@@ -0,0 +1,20 @@
+-- V5: Add maintained reserved_chickens counter to daily_inventory
+-- Bookings claim chickens with one conditional UPDATE on this column instead of
+-- summing CONFIRMED reservations, so two concurrent bookings can never oversell.
+
+ALTER TABLE daily_inventory ADD COLUMN reserved_chickens INT NOT NULL DEFAULT 0;
+
+-- Backfill from existing CONFIRMED reservations
+UPDATE daily_inventory i
+SET reserved_chickens = COALESCE((
+    SELECT SUM(r.chicken_count)
+    FROM reservation r
+    WHERE r.location_id = i.location_id
+      AND r.reservation_date = i.date
+      AND r.status = 'CONFIRMED'
+), 0);
+
+ALTER TABLE daily_inventory ADD CONSTRAINT chk_reserved_chickens
+    CHECK (reserved_chickens >= 0);
+
+COMMENT ON COLUMN daily_inventory.reserved_chickens IS 'Chickens held by CONFIRMED reservations (maintained counter, see InventoryReconciliationJob)';
@@ -0,0 +1,10 @@
+-- V6: Sequence for confirmation codes
+-- Each node allocates a block of 1000 sequence numbers per nextval() and turns them into
+-- codes with a keyed permutation (see ConfirmationCodeGenerator), so codes are unique
+-- without probing the reservation table.
+-- INCREMENT BY must match ConfirmationCodeGenerator.BLOCK_SIZE.
+
+CREATE SEQUENCE confirmation_code_seq
+    START WITH 0
+    MINVALUE 0
+    INCREMENT BY 1000;
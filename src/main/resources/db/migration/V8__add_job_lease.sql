@@ -0,0 +1,11 @@
+-- V8: Leases for scheduled jobs that must only run on one node at a time
+-- A node runs a job only after taking over its lease with a conditional UPDATE
+-- (expired or already its own). Rows are created on first use.
+
+CREATE TABLE job_lease (
+    name VARCHAR(100) PRIMARY KEY,
+    owner VARCHAR(100) NOT NULL,
+    locked_until TIMESTAMP NOT NULL
+);
+
+COMMENT ON TABLE job_lease IS 'Leases of scheduled jobs that run on one node at a time';
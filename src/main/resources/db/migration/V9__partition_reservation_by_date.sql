@@ -0,0 +1,81 @@
+-- V9: Range-partition reservation by reservation_date (one partition per month)
+-- All hot queries are scoped to one reservation_date, so they only touch the current month's
+-- partition and its small indexes, however much history accumulates. Partitions are created
+-- ahead of time and old ones detached or dropped by ReservationPartitionJob.
+--
+-- The table is rewritten, which locks it for the duration: run during a maintenance window.
+--
+-- Partitioned tables need the partition key in every unique constraint:
+--   - primary key is (id, reservation_date); ids stay unique (generated UUIDs)
+--   - confirmation codes are unique per reservation_date; they stay globally unique because
+--     ConfirmationCodeGenerator derives them from a sequence
+
+-- Creates the partition of the month containing p_month, if it does not exist yet.
+-- Returns true if it was created.
+CREATE OR REPLACE FUNCTION create_reservation_partition(p_month DATE) RETURNS BOOLEAN
+LANGUAGE plpgsql AS $$
+DECLARE
+    v_from DATE := date_trunc('month', p_month)::DATE;
+    v_to DATE := (date_trunc('month', p_month) + INTERVAL '1 month')::DATE;
+    v_name TEXT := 'reservation_' || to_char(v_from, '"y"YYYY"m"MM');
+BEGIN
+    IF to_regclass(v_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+    EXECUTE format('CREATE TABLE %I PARTITION OF reservation FOR VALUES FROM (%L) TO (%L)', v_name, v_from, v_to);
+    RETURN TRUE;
+END;
+$$;
+
+ALTER TABLE reservation RENAME TO reservation_unpartitioned;
+
+CREATE TABLE reservation (
+    LIKE reservation_unpartitioned INCLUDING DEFAULTS INCLUDING CONSTRAINTS INCLUDING COMMENTS
+) PARTITION BY RANGE (reservation_date);
+
+-- One partition per month from the oldest reservation until three months ahead
+DO $$
+DECLARE
+    v_month DATE;
+BEGIN
+    FOR v_month IN
+        SELECT m::DATE
+        FROM (SELECT MIN(reservation_date) AS first_date, MAX(reservation_date) AS last_date
+              FROM reservation_unpartitioned) r,
+             generate_series(
+                 date_trunc('month', LEAST(COALESCE(r.first_date, CURRENT_DATE), CURRENT_DATE)),
+                 date_trunc('month', GREATEST(COALESCE(r.last_date, CURRENT_DATE), CURRENT_DATE + INTERVAL '3 months')),
+                 INTERVAL '1 month') AS m
+    LOOP
+        PERFORM create_reservation_partition(v_month);
+    END LOOP;
+END;
+$$;
+
+-- Safety net if the maintenance job did not run; stays empty otherwise
+CREATE TABLE reservation_default PARTITION OF reservation DEFAULT;
+
+INSERT INTO reservation SELECT * FROM reservation_unpartitioned;
+DROP TABLE reservation_unpartitioned;
+
+ALTER TABLE reservation ADD CONSTRAINT reservation_pkey PRIMARY KEY (id, reservation_date);
+ALTER TABLE reservation ADD CONSTRAINT uk_reservation_confirmation_code UNIQUE (confirmation_code, reservation_date);
+ALTER TABLE reservation ADD CONSTRAINT fk_reservation_location
+    FOREIGN KEY (location_id) REFERENCES location(id)
+    ON DELETE RESTRICT;
+
+-- Indexes are created per partition. Indexes of the old table that are not recreated:
+--   - idx_reservation_location_id and idx_reservation_status (V1): prefixes of the composite
+--     indexes below
+--   - idx_reservation_pickup_time and idx_reservation_location_pickup_date (V1): already gone,
+--     dropped with the TIMESTAMP pickup_time column in V3 and never recreated for the TIME
+--     column. The pickupFrom/pickupTo filters of the reservation search are checked on the rows
+--     of the date range (see V7); a time-of-day index across all dates would not narrow them.
+CREATE INDEX idx_reservation_location_date ON reservation(location_id, reservation_date);
+CREATE INDEX idx_reservation_created_at_id ON reservation(created_at DESC, id DESC);
+CREATE INDEX idx_reservation_location_created_at_id ON reservation(location_id, created_at DESC, id DESC);
+CREATE INDEX idx_reservation_status_created_at_id ON reservation(status, created_at DESC, id DESC);
+CREATE INDEX idx_reservation_date_created_at_id ON reservation(reservation_date, created_at DESC, id DESC);
+
+COMMENT ON TABLE reservation IS 'Customer reservations for chicken and fries pickup (partitioned by month of reservation_date)';
+COMMENT ON FUNCTION create_reservation_partition(DATE) IS 'Creates the monthly reservation partition, used by ReservationPartitionJob';
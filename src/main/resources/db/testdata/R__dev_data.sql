@@ -156,3 +156,18 @@ VALUES
      'TEST0006',
      'Nicht erschienen, keine Kontaktmöglichkeit',
      CURRENT_DATE - INTERVAL '3 days', CURRENT_DATE - INTERVAL '2 days');
+
+
+-- =====================================================
+-- Sync reserved_chickens counter with the sample reservations
+-- =====================================================
+
+UPDATE daily_inventory i
+SET reserved_chickens = COALESCE((
+    SELECT SUM(r.chicken_count)
+    FROM reservation r
+    WHERE r.location_id = i.location_id
+      AND r.reservation_date = i.date
+      AND r.status = 'CONFIRMED'
+), 0)
+WHERE i.date = CURRENT_DATE;
@@ -0,0 +1,41 @@
+package org.example.foodtruckbookingservice.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AcceptEncodingTest {
+
+    @Test
+    void listedCodingIsAccepted() {
+        assertThat(AcceptEncoding.accepts("gzip, deflate, br", "gzip")).isTrue();
+        assertThat(AcceptEncoding.accepts("deflate, BR;q=0.8", "br")).isTrue();
+    }
+
+    @Test
+    void missingHeaderOrCodingIsNotAccepted() {
+        assertThat(AcceptEncoding.accepts(null, "gzip")).isFalse();
+        assertThat(AcceptEncoding.accepts("", "gzip")).isFalse();
+        assertThat(AcceptEncoding.accepts("deflate, br", "gzip")).isFalse();
+    }
+
+    @Test
+    void codingWithQualityZeroIsRefused() {
+        assertThat(AcceptEncoding.accepts("gzip;q=0", "gzip")).isFalse();
+        assertThat(AcceptEncoding.accepts("br, gzip ; q=0.0", "gzip")).isFalse();
+        assertThat(AcceptEncoding.accepts("gzip;q=0.001", "gzip")).isTrue();
+    }
+
+    @Test
+    void explicitEntryWinsOverWildcard() {
+        assertThat(AcceptEncoding.accepts("*", "gzip")).isTrue();
+        assertThat(AcceptEncoding.accepts("*;q=0", "gzip")).isFalse();
+        assertThat(AcceptEncoding.accepts("gzip;q=0, *", "gzip")).isFalse();
+        assertThat(AcceptEncoding.accepts("*;q=0, gzip", "gzip")).isTrue();
+    }
+
+    @Test
+    void malformedQualityIsRefused() {
+        assertThat(AcceptEncoding.accepts("gzip;q=high", "gzip")).isFalse();
+    }
+}
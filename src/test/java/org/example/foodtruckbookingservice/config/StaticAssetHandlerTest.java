@@ -0,0 +1,93 @@
+package org.example.foodtruckbookingservice.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StaticAssetHandlerTest {
+
+    private static final String BUNDLE = "/assets/index-Bx7f3kQ2.js";
+
+    private StaticAssetHandler handler;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        handler = StaticAssetHandler.load(new PathMatchingResourcePatternResolver(), "classpath:/frontend-test/");
+    }
+
+    @Test
+    void hashedBundleIsImmutableAndGzipped() throws Exception {
+        MockHttpServletResponse plain = get(BUNDLE, null, null);
+        MockHttpServletResponse gzipped = get(BUNDLE, "gzip, deflate, br", null);
+
+        assertThat(plain.getStatus()).isEqualTo(200);
+        assertThat(plain.getContentType()).contains("javascript");
+        assertThat(plain.getHeader(HttpHeaders.CACHE_CONTROL)).contains("immutable");
+        assertThat(plain.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+
+        assertThat(gzipped.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gzipped.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(gzipped.getHeader(HttpHeaders.ETAG)).isNotEqualTo(plain.getHeader(HttpHeaders.ETAG));
+        assertThat(new GZIPInputStream(new ByteArrayInputStream(gzipped.getContentAsByteArray())).readAllBytes())
+                .isEqualTo(plain.getContentAsByteArray());
+    }
+
+    @Test
+    void unchangedAssetIsNotModified() throws Exception {
+        String eTag = get(BUNDLE, "gzip", null).getHeader(HttpHeaders.ETAG);
+
+        MockHttpServletResponse response = get(BUNDLE, "gzip", eTag);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentLength()).isZero();
+    }
+
+    @Test
+    void unknownRouteFallsBackToIndex() throws Exception {
+        MockHttpServletResponse response = get("/reservierung/ABC123", null, null);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentType()).startsWith("text/html");
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("no-cache");
+        assertThat(response.getContentAsString()).contains("<div id=\"root\">");
+    }
+
+    @Test
+    void unknownApiPathIsNotFound() throws Exception {
+        assertThat(get("/api/v1/unknown", null, null).getStatus()).isEqualTo(404);
+    }
+
+    @Test
+    void missingBundleIsNotFound() throws Exception {
+        assertThat(get("/assets/index-OldHash1.js", null, null).getStatus()).isEqualTo(404);
+    }
+
+    @Test
+    void refusedGzipIsNotUsed() throws Exception {
+        MockHttpServletResponse response = get(BUNDLE, "gzip;q=0, identity", null);
+
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(get(BUNDLE, "*", null).getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+    }
+
+    private MockHttpServletResponse get(String path, String acceptEncoding, String ifNoneMatch) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        if (acceptEncoding != null) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        handler.handleRequest(request, response);
+        return response;
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.foodtruckbookingservice.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.core.env.Environment;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Profile {@code virtual-threads}: the context starts with the pinning monitor, and a request that
+ * finds the connection pool exhausted is answered with 503 after the connection timeout.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("virtual-threads")
+class VirtualThreadsProfileTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private VirtualThreadPinningMonitor pinningMonitor;
+
+    @Test
+    void contextStartsWithPinningMonitor() throws SQLException {
+        assertThat(environment.getProperty("spring.threads.virtual.enabled", Boolean.class)).isTrue();
+        assertThat(pool().getConnectionTimeout()).isEqualTo(2000);
+        assertThat(pinningMonitor.pinning()).isNotNull();
+    }
+
+    @Test
+    void exhaustedPoolIsServiceUnavailable() throws Exception {
+        HikariDataSource pool = pool();
+        List<Connection> held = new ArrayList<>();
+        try {
+            for (int i = 0; i < pool.getMaximumPoolSize(); i++) {
+                held.add(pool.getConnection());
+            }
+
+            mockMvc.perform(post("/api/v1/reservations")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("""
+                                    {"locationId": "%s", "customerName": "Test", "chickenCount": 1, "friesCount": 0}
+                                    """.formatted(UUID.randomUUID())))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(jsonPath("$.detail").value("Der Service ist gerade ausgelastet, bitte erneut versuchen"));
+        } finally {
+            for (Connection connection : held) {
+                connection.close();
+            }
+        }
+    }
+
+    private HikariDataSource pool() throws SQLException {
+        // Wrapped by the SQL statistics proxy
+        return dataSource.unwrap(HikariDataSource.class);
+    }
+}
@@ -0,0 +1,194 @@
+package org.example.foodtruckbookingservice.controller;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.foodtruckbookingservice.entity.DailyInventory;
+import org.example.foodtruckbookingservice.entity.Location;
+import org.example.foodtruckbookingservice.entity.LocationSchedule;
+import org.example.foodtruckbookingservice.entity.Reservation;
+import org.example.foodtruckbookingservice.repository.DailyInventoryRepository;
+import org.example.foodtruckbookingservice.repository.LocationRepository;
+import org.example.foodtruckbookingservice.repository.LocationScheduleRepository;
+import org.example.foodtruckbookingservice.repository.ReservationRepository;
+import org.example.foodtruckbookingservice.service.InventoryChangedEvent;
+import org.example.foodtruckbookingservice.service.TimetableService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Locks the availability endpoints at one SQL statement per request
+ * (opening hours come from the in-memory timetable) and none for a 304 or an unchanged snapshot.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class AvailabilityQueryCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    @Autowired
+    private LocationScheduleRepository scheduleRepository;
+
+    @Autowired
+    private DailyInventoryRepository inventoryRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private TimetableService timetableService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private Statistics statistics;
+    private Location location;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        LocalDate today = LocalDate.now();
+
+        location = locationRepository.save(Location.builder()
+                .name("Query Count " + UUID.randomUUID())
+                .address("Teststraße 1")
+                .build());
+        scheduleRepository.save(LocationSchedule.builder()
+                .location(location)
+                .dayOfWeek(today.getDayOfWeek().getValue())
+                .openingTime(LocalTime.MIN)
+                .closingTime(LocalTime.MAX)
+                .dailyCapacity(50)
+                .build());
+        inventoryRepository.save(DailyInventory.builder()
+                .location(location)
+                .date(today)
+                .totalChickens(50)
+                .reservedChickens(3)
+                .build());
+        reservationRepository.save(Reservation.builder()
+                .location(location)
+                .confirmationCode(UUID.randomUUID().toString().substring(0, 8))
+                .customerName("Test")
+                .chickenCount(3)
+                .friesCount(0)
+                .reservationDate(today)
+                .build());
+        timetableService.refresh();
+    }
+
+    @Test
+    void availabilityNeedsOneStatement() throws Exception {
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        mockMvc.perform(get("/api/v1/locations/{id}/availability", location.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.isOpen").value(true))
+                .andExpect(jsonPath("$.totalChickens").value(50));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void todayAvailabilityNeedsOneStatement() throws Exception {
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        mockMvc.perform(get("/api/v1/availability/today"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[?(@.locationId == '%s')].availableChickens", location.getId())
+                        .value(47));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void statementCountIsReportedInHeader() throws Exception {
+        mockMvc.perform(get("/api/v1/locations/{id}/availability", location.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-SQL-Statements", "1"))
+                .andExpect(header().string("X-SQL-Rows", "1"));
+    }
+
+    @Test
+    void notModifiedNeedsNoStatement() throws Exception {
+        String eTag = mockMvc.perform(get("/api/v1/locations/{id}/availability", location.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        mockMvc.perform(get("/api/v1/locations/{id}/availability", location.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void closedDayNeedsOneStatement() throws Exception {
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        mockMvc.perform(get("/api/v1/locations/{id}/availability", location.getId())
+                        .param("date", LocalDate.now().plusDays(1).toString()))
+                .andExpect(status().isOk());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void unchangedAvailabilityIsServedFromSnapshot() throws Exception {
+        mockMvc.perform(get("/api/v1/locations/{id}/availability", location.getId()))
+                .andExpect(status().isOk());
+
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        mockMvc.perform(get("/api/v1/locations/{id}/availability", location.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.availableChickens").value(47));
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void inventoryChangeRebuildsSnapshot() throws Exception {
+        mockMvc.perform(get("/api/v1/locations/{id}/availability", location.getId()))
+                .andExpect(jsonPath("$.availableChickens").value(47));
+
+        DailyInventory inventory = inventoryRepository.findByLocationIdAndDate(location.getId(), LocalDate.now())
+                .orElseThrow();
+        inventory.setTotalChickens(60);
+        inventoryRepository.save(inventory);
+        eventPublisher.publishEvent(new InventoryChangedEvent(location.getId(), LocalDate.now()));
+
+        mockMvc.perform(get("/api/v1/locations/{id}/availability", location.getId()))
+                .andExpect(jsonPath("$.availableChickens").value(57));
+    }
+}
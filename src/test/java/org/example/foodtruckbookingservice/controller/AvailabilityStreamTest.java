@@ -0,0 +1,136 @@
+package org.example.foodtruckbookingservice.controller;
+
+import org.example.foodtruckbookingservice.entity.DailyInventory;
+import org.example.foodtruckbookingservice.entity.Location;
+import org.example.foodtruckbookingservice.entity.LocationSchedule;
+import org.example.foodtruckbookingservice.repository.DailyInventoryRepository;
+import org.example.foodtruckbookingservice.repository.LocationRepository;
+import org.example.foodtruckbookingservice.repository.LocationScheduleRepository;
+import org.example.foodtruckbookingservice.service.TimetableService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Live streams: the current availability on subscribe, and pushes after a committed booking on the
+ * availability and the admin stream.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class AvailabilityStreamTest {
+
+    private static final Duration PUSH_TIMEOUT = Duration.ofSeconds(5);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    @Autowired
+    private LocationScheduleRepository scheduleRepository;
+
+    @Autowired
+    private DailyInventoryRepository inventoryRepository;
+
+    @Autowired
+    private TimetableService timetableService;
+
+    private Location location;
+
+    @BeforeEach
+    void setUp() {
+        LocalDate today = LocalDate.now();
+        location = locationRepository.save(Location.builder()
+                .name("Stream " + UUID.randomUUID())
+                .address("Teststraße 1")
+                .build());
+        scheduleRepository.save(LocationSchedule.builder()
+                .location(location)
+                .dayOfWeek(today.getDayOfWeek().getValue())
+                .openingTime(LocalTime.MIN)
+                .closingTime(LocalTime.MAX)
+                .dailyCapacity(50)
+                .build());
+        inventoryRepository.save(DailyInventory.builder()
+                .location(location)
+                .date(today)
+                .totalChickens(50)
+                .build());
+        timetableService.refresh();
+    }
+
+    @Test
+    void committedBookingIsPushed() throws Exception {
+        MockHttpServletResponse stream = mockMvc.perform(
+                        get("/api/v1/locations/{id}/availability/stream", location.getId()))
+                .andExpect(request().asyncStarted())
+                .andReturn().getResponse();
+        assertThat(stream.getContentAsString())
+                .startsWith("event:availability")
+                .contains("\"availableChickens\":50");
+
+        mockMvc.perform(post("/api/v1/reservations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"locationId": "%s", "customerName": "Live", "chickenCount": 3, "friesCount": 0}
+                                """.formatted(location.getId())))
+                .andExpect(status().isCreated());
+
+        awaitContent(stream, "\"availableChickens\":47");
+    }
+
+    @Test
+    void committedBookingIsPushedToAdmins() throws Exception {
+        MockHttpServletResponse stream = mockMvc.perform(get("/api/v1/admin/reservations/stream")
+                        .header(HttpHeaders.AUTHORIZATION, "Basic " + Base64.getEncoder()
+                                .encodeToString("admin:testadmin".getBytes(StandardCharsets.UTF_8))))
+                .andExpect(request().asyncStarted())
+                .andReturn().getResponse();
+
+        mockMvc.perform(post("/api/v1/reservations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"locationId": "%s", "customerName": "Admin Live", "chickenCount": 2, "friesCount": 0}
+                                """.formatted(location.getId())))
+                .andExpect(status().isCreated());
+
+        awaitContent(stream, "\"customerName\":\"Admin Live\"");
+        assertThat(stream.getContentAsString()).startsWith("event:reservation");
+    }
+
+    @Test
+    void adminStreamRequiresAdmin() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/reservations/stream")
+                        .header(HttpHeaders.AUTHORIZATION, "Basic " + Base64.getEncoder()
+                                .encodeToString("wagen1:testpass1".getBytes(StandardCharsets.UTF_8))))
+                .andExpect(status().isForbidden());
+    }
+
+    private static void awaitContent(MockHttpServletResponse stream, String expected) throws Exception {
+        long deadline = System.nanoTime() + PUSH_TIMEOUT.toNanos();
+        while (!stream.getContentAsString().contains(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(stream.getContentAsString()).contains(expected);
+    }
+}
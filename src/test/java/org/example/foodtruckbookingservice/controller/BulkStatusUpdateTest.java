@@ -0,0 +1,132 @@
+package org.example.foodtruckbookingservice.controller;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.foodtruckbookingservice.entity.DailyInventory;
+import org.example.foodtruckbookingservice.entity.Location;
+import org.example.foodtruckbookingservice.entity.Reservation;
+import org.example.foodtruckbookingservice.entity.ReservationStatus;
+import org.example.foodtruckbookingservice.repository.DailyInventoryRepository;
+import org.example.foodtruckbookingservice.repository.LocationRepository;
+import org.example.foodtruckbookingservice.repository.ReservationRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Closing a day with many open reservations is one request with a fixed number of statements:
+ * one SELECT, one UPDATE per kind of change and one inventory update per location-day.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class BulkStatusUpdateTest {
+
+    private static final int COMPLETED = 50;
+    private static final int NO_SHOW = 30;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    @Autowired
+    private DailyInventoryRepository inventoryRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    private Statistics statistics;
+    private Location location;
+    private List<Reservation> reservations;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        LocalDate today = LocalDate.now();
+
+        location = locationRepository.save(Location.builder()
+                .name("Bulk " + UUID.randomUUID())
+                .address("Teststraße 1")
+                .build());
+        inventoryRepository.save(DailyInventory.builder()
+                .location(location)
+                .date(today)
+                .totalChickens(100)
+                .reservedChickens(COMPLETED + NO_SHOW)
+                .build());
+        reservations = reservationRepository.saveAll(IntStream.range(0, COMPLETED + NO_SHOW)
+                .mapToObj(i -> Reservation.builder()
+                        .location(location)
+                        .confirmationCode(UUID.randomUUID().toString().substring(0, 8))
+                        .customerName("Kunde " + i)
+                        .chickenCount(1)
+                        .friesCount(0)
+                        .reservationDate(today)
+                        .status(ReservationStatus.CONFIRMED)
+                        .build())
+                .toList());
+    }
+
+    @Test
+    void closingTheDayNeedsFewStatements() throws Exception {
+        List<String> updates = new ArrayList<>();
+        for (int i = 0; i < reservations.size(); i++) {
+            updates.add(update(reservations.get(i).getId(), i < COMPLETED ? "COMPLETED" : "NO_SHOW"));
+        }
+        updates.add(update(UUID.randomUUID(), "COMPLETED"));
+        updates.add(update(reservations.getFirst().getId(), "NO_SHOW"));
+
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        mockMvc.perform(patch("/api/v1/staff/reservations/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"updates\":[" + String.join(",", updates) + "]}")
+                        .header(HttpHeaders.AUTHORIZATION, "Basic " + Base64.getEncoder()
+                                .encodeToString("wagen1:testpass1".getBytes(StandardCharsets.UTF_8))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(COMPLETED + NO_SHOW))
+                .andExpect(jsonPath("$.rejected").value(2))
+                .andExpect(jsonPath("$.results[0].outcome").value("UPDATED"))
+                .andExpect(jsonPath("$.results[0].reservation.locationName").value(location.getName()))
+                .andExpect(jsonPath("$.results[%d].outcome", COMPLETED + NO_SHOW).value("RESERVATION_NOT_FOUND"))
+                .andExpect(jsonPath("$.results[%d].outcome", COMPLETED + NO_SHOW + 1).value("DUPLICATE"));
+
+        // SELECT, UPDATE to COMPLETED, UPDATE to NO_SHOW, inventory UPDATE
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+
+        DailyInventory inventory = inventoryRepository.findByLocationIdAndDate(location.getId(), LocalDate.now())
+                .orElseThrow();
+        assertThat(inventory.getTotalChickens()).isEqualTo(100 - COMPLETED);
+        assertThat(inventory.getReservedChickens()).isZero();
+        assertThat(reservationRepository.countByLocationIdAndReservationDateAndStatus(
+                location.getId(), LocalDate.now(), ReservationStatus.NO_SHOW)).isEqualTo(NO_SHOW);
+    }
+
+    private static String update(UUID reservationId, String status) {
+        return "{\"reservationId\":\"" + reservationId + "\",\"status\":\"" + status + "\"}";
+    }
+}
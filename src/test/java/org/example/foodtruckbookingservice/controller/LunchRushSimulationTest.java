@@ -0,0 +1,345 @@
+package org.example.foodtruckbookingservice.controller;
+
+import org.example.foodtruckbookingservice.entity.DailyInventory;
+import org.example.foodtruckbookingservice.entity.Location;
+import org.example.foodtruckbookingservice.entity.LocationSchedule;
+import org.example.foodtruckbookingservice.entity.ReservationStatus;
+import org.example.foodtruckbookingservice.repository.DailyInventoryRepository;
+import org.example.foodtruckbookingservice.repository.LocationRepository;
+import org.example.foodtruckbookingservice.repository.LocationScheduleRepository;
+import org.example.foodtruckbookingservice.service.TimetableService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Lunch rush against the running application: customers book at one location following an
+ * arrival curve while staff complete, cancel and no-show confirmed reservations.
+ *
+ * <p>Reports p50/p99/p99.9 latency and throughput per endpoint, and checks that confirmed
+ * chickens never exceed the inventory - sampled during the run and checked again at the end.
+ * Run with {@code mvn test -Pload}; tune with system properties:
+ * <ul>
+ *   <li>{@code load.customers} (500), {@code load.duration} (PT10S), {@code load.curve}
+ *       (CONSTANT, RAMP or SPIKE)</li>
+ *   <li>{@code load.chickens} (300, total inventory - below demand so the location sells out)</li>
+ *   <li>{@code load.staff} (2 clients), {@code load.staff-interval} (PT0.1S between updates)</li>
+ *   <li>{@code load.admission} (true, group commit as in production)</li>
+ * </ul>
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class LunchRushSimulationTest {
+
+    private static final int CUSTOMERS = Integer.getInteger("load.customers", 500);
+    private static final Duration DURATION = Duration.parse(System.getProperty("load.duration", "PT10S"));
+    private static final ArrivalCurve CURVE = ArrivalCurve.valueOf(System.getProperty("load.curve", "SPIKE"));
+    private static final int TOTAL_CHICKENS = Integer.getInteger("load.chickens", 300);
+    private static final int STAFF = Integer.getInteger("load.staff", 2);
+    private static final Duration STAFF_INTERVAL = Duration.parse(System.getProperty("load.staff-interval", "PT0.1S"));
+
+    private static final ReservationStatus[] STAFF_UPDATES = {
+            ReservationStatus.COMPLETED, ReservationStatus.COMPLETED, ReservationStatus.CANCELLED,
+            ReservationStatus.NO_SHOW};
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    @Autowired
+    private LocationScheduleRepository scheduleRepository;
+
+    @Autowired
+    private DailyInventoryRepository inventoryRepository;
+
+    @Autowired
+    private TimetableService timetableService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    @DynamicPropertySource
+    static void admission(DynamicPropertyRegistry registry) {
+        registry.add("app.reservation.admission.enabled", () -> System.getProperty("load.admission", "true"));
+    }
+
+    @Test
+    void lunchRush() throws Exception {
+        UUID locationId = seedLocation();
+        LocalDate today = LocalDate.now();
+        String staffToken = login();
+
+        Endpoint booking = new Endpoint("POST /reservations");
+        Endpoint statusUpdate = new Endpoint("PATCH /staff/reservations/{id}/status");
+        Queue<UUID> confirmed = new ConcurrentLinkedQueue<>();
+        List<String> violations = new ArrayList<>();
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        long began = System.nanoTime();
+        try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+            threads.submit(() -> {
+                while (running.get()) {
+                    checkInventory(locationId, today).ifPresent(violations::add);
+                    Thread.sleep(50);
+                }
+                return null;
+            });
+            for (int s = 0; s < STAFF; s++) {
+                threads.submit(() -> {
+                    while (running.get()) {
+                        UUID reservationId = confirmed.poll();
+                        if (reservationId != null) {
+                            updateStatus(statusUpdate, staffToken, reservationId);
+                        }
+                        Thread.sleep(STAFF_INTERVAL.toMillis());
+                    }
+                    return null;
+                });
+            }
+
+            try {
+                runCustomers(threads, booking, locationId, began, confirmed);
+            } finally {
+                running.set(false);
+            }
+        }
+        double seconds = (System.nanoTime() - began) / 1e9;
+
+        System.out.printf("Lunch rush: %d customers over %s (%s), %d chickens, %d staff clients, %.1f s%n",
+                CUSTOMERS, DURATION, CURVE, TOTAL_CHICKENS, STAFF, seconds);
+        booking.report(seconds);
+        statusUpdate.report(seconds);
+
+        checkInventory(locationId, today).ifPresent(violations::add);
+        assertThat(violations).as("confirmed chickens above inventory").isEmpty();
+
+        Map<String, Object> totals = jdbcTemplate.queryForMap("""
+                SELECT i.reserved_chickens AS reserved,
+                       (SELECT COALESCE(SUM(r.chicken_count), 0) FROM reservation r
+                         WHERE r.location_id = i.location_id AND r.reservation_date = i.date
+                           AND r.status = 'CONFIRMED') AS confirmed,
+                       (SELECT COALESCE(SUM(r.chicken_count), 0) FROM reservation r
+                         WHERE r.location_id = i.location_id AND r.reservation_date = i.date
+                           AND r.status = 'COMPLETED') AS completed
+                FROM daily_inventory i WHERE i.location_id = ? AND i.date = ?
+                """, locationId, today);
+        long confirmedChickens = ((Number) totals.get("confirmed")).longValue();
+        long completedChickens = ((Number) totals.get("completed")).longValue();
+        assertThat(((Number) totals.get("reserved")).longValue())
+                .as("reserved_chickens counter").isEqualTo(confirmedChickens);
+        assertThat(confirmedChickens + completedChickens)
+                .as("chickens handed out").isLessThanOrEqualTo(TOTAL_CHICKENS);
+        assertThat(booking.count(201)).as("successful bookings").isPositive();
+    }
+
+    private void runCustomers(
+            ExecutorService threads, Endpoint booking, UUID locationId, long began, Queue<UUID> confirmed)
+            throws Exception {
+        List<Future<?>> customers = new ArrayList<>(CUSTOMERS);
+        for (int i = 0; i < CUSTOMERS; i++) {
+            long arrivalNanos = began + CURVE.arrival(i, CUSTOMERS, DURATION).toNanos();
+            customers.add(threads.submit(() -> {
+                long wait = arrivalNanos - System.nanoTime();
+                if (wait > 0) {
+                    TimeUnit.NANOSECONDS.sleep(wait);
+                }
+                book(booking, locationId).ifPresent(confirmed::add);
+                return null;
+            }));
+        }
+        for (Future<?> customer : customers) {
+            customer.get(DURATION.toSeconds() + 60, TimeUnit.SECONDS);
+        }
+    }
+
+    private UUID seedLocation() {
+        Location location = locationRepository.save(Location.builder()
+                .name("Lunch Rush " + UUID.randomUUID())
+                .address("Marktplatz 1")
+                .build());
+        scheduleRepository.save(LocationSchedule.builder()
+                .location(location)
+                .dayOfWeek(LocalDate.now().getDayOfWeek().getValue())
+                .openingTime(LocalTime.MIN)
+                .closingTime(LocalTime.MAX)
+                .dailyCapacity(TOTAL_CHICKENS)
+                .build());
+        inventoryRepository.save(DailyInventory.builder()
+                .location(location)
+                .date(LocalDate.now())
+                .totalChickens(TOTAL_CHICKENS)
+                .build());
+        timetableService.refresh();
+        return location.getId();
+    }
+
+    private String login() throws Exception {
+        HttpResponse<String> response = client.send(request("/auth/login")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"username\":\"wagen1\",\"password\":\"testpass1\"}"))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).isEqualTo(200);
+        return jsonMapper.readTree(response.body()).get("token").asString();
+    }
+
+    private Optional<UUID> book(Endpoint endpoint, UUID locationId) throws Exception {
+        String body = jsonMapper.writeValueAsString(Map.of(
+                "locationId", locationId,
+                "customerName", "Kunde",
+                "chickenCount", ThreadLocalRandom.current().nextInt(1, 4),
+                "friesCount", ThreadLocalRandom.current().nextInt(0, 2)));
+        HttpResponse<String> response = endpoint.send(client, request("/reservations")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build());
+        if (response.statusCode() != 201) {
+            return Optional.empty();
+        }
+        JsonNode reservation = jsonMapper.readTree(response.body());
+        return Optional.of(UUID.fromString(reservation.get("id").asString()));
+    }
+
+    private void updateStatus(Endpoint endpoint, String token, UUID reservationId) throws Exception {
+        ReservationStatus status = STAFF_UPDATES[ThreadLocalRandom.current().nextInt(STAFF_UPDATES.length)];
+        endpoint.send(client, request("/staff/reservations/" + reservationId + "/status")
+                .header("Content-Type", "application/json")
+                .header("Authorization", "Bearer " + token)
+                .method("PATCH", HttpRequest.BodyPublishers.ofString("{\"status\":\"" + status + "\"}"))
+                .build());
+    }
+
+    /**
+     * Compare confirmed chickens with the inventory in one statement (one consistent snapshot).
+     */
+    private Optional<String> checkInventory(UUID locationId, LocalDate date) {
+        Map<String, Object> row = jdbcTemplate.queryForMap("""
+                SELECT i.total_chickens AS total,
+                       (SELECT COALESCE(SUM(r.chicken_count), 0) FROM reservation r
+                         WHERE r.location_id = i.location_id AND r.reservation_date = i.date
+                           AND r.status = 'CONFIRMED') AS confirmed
+                FROM daily_inventory i WHERE i.location_id = ? AND i.date = ?
+                """, locationId, date);
+        long total = ((Number) row.get("total")).longValue();
+        long confirmed = ((Number) row.get("confirmed")).longValue();
+        return confirmed > total
+                ? Optional.of(confirmed + " confirmed > " + total + " total")
+                : Optional.empty();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1" + path))
+                .timeout(Duration.ofSeconds(30));
+    }
+
+    /**
+     * Arrival offset of customer i of n within the duration.
+     */
+    enum ArrivalCurve {
+        /** Evenly spread. */
+        CONSTANT,
+        /** Arrival rate grows linearly towards the end. */
+        RAMP,
+        /** 80% arrive within the middle fifth of the duration, the rest spread evenly. */
+        SPIKE;
+
+        Duration arrival(int i, int n, Duration duration) {
+            double fraction = (double) i / n;
+            double at = switch (this) {
+                case CONSTANT -> fraction;
+                case RAMP -> Math.sqrt(fraction);
+                case SPIKE -> i % 5 == 0
+                        ? new Random(i).nextDouble()
+                        : 0.4 + 0.2 * fraction;
+            };
+            return Duration.ofNanos((long) (at * duration.toNanos()));
+        }
+    }
+
+    /**
+     * Latencies and status codes of one endpoint.
+     */
+    private static final class Endpoint {
+
+        private final String name;
+        private final Queue<Long> latencies = new ConcurrentLinkedQueue<>();
+        private final ConcurrentMap<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+        private Endpoint(String name) {
+            this.name = name;
+        }
+
+        HttpResponse<String> send(HttpClient client, HttpRequest request) throws Exception {
+            long start = System.nanoTime();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            latencies.add(System.nanoTime() - start);
+            statuses.computeIfAbsent(response.statusCode(), code -> new LongAdder()).increment();
+            return response;
+        }
+
+        long count(int status) {
+            LongAdder adder = statuses.get(status);
+            return adder != null ? adder.sum() : 0;
+        }
+
+        void report(double seconds) {
+            long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+            if (sorted.length == 0) {
+                System.out.printf("  %s: no requests%n", name);
+                return;
+            }
+            System.out.printf("  %s: %d requests, %.1f req/s, p50 %.1f ms, p99 %.1f ms, p99.9 %.1f ms, max %.1f ms, status %s%n",
+                    name, sorted.length, sorted.length / seconds,
+                    percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 0.999),
+                    sorted[sorted.length - 1] / 1e6, statuses);
+        }
+
+        private static double percentile(long[] sorted, double p) {
+            int index = (int) Math.ceil(p * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1e6;
+        }
+    }
+}
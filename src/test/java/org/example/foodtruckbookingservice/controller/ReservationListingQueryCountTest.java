@@ -0,0 +1,169 @@
+package org.example.foodtruckbookingservice.controller;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.foodtruckbookingservice.entity.Location;
+import org.example.foodtruckbookingservice.entity.Reservation;
+import org.example.foodtruckbookingservice.repository.LocationRepository;
+import org.example.foodtruckbookingservice.repository.ReservationRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Locks the reservation listings at one SELECT (plus one count for pages), independent of the
+ * number of reservations: the location is joined in the same statement. Search slices
+ * (keyset pagination) need no count at all.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ReservationListingQueryCountTest {
+
+    private static final int RESERVATIONS = 120;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    private Statistics statistics;
+    private Location location;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        location = locationRepository.save(Location.builder()
+                .name("Listing " + UUID.randomUUID())
+                .address("Teststraße 1")
+                .build());
+
+        List<Reservation> reservations = IntStream.range(0, RESERVATIONS)
+                .mapToObj(i -> Reservation.builder()
+                        .location(location)
+                        .confirmationCode(UUID.randomUUID().toString().substring(0, 8))
+                        .customerName("Kunde " + i)
+                        .chickenCount(1)
+                        .friesCount(0)
+                        .reservationDate(LocalDate.now())
+                        .build())
+                .toList();
+        reservationRepository.saveAll(reservations);
+    }
+
+    @Test
+    void staffListNeedsOneStatement() throws Exception {
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        mockMvc.perform(get("/api/v1/staff/reservations")
+                        .param("locationId", location.getId().toString())
+                        .header(HttpHeaders.AUTHORIZATION, basic("wagen1", "testpass1")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(RESERVATIONS))
+                .andExpect(jsonPath("$[0].locationName").value(location.getName()));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void adminPageNeedsOneSelectAndOneCount() throws Exception {
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        mockMvc.perform(get("/api/v1/admin/reservations")
+                        .param("locationId", location.getId().toString())
+                        .param("date", LocalDate.now().toString())
+                        .param("size", "100")
+                        .header(HttpHeaders.AUTHORIZATION, basic("admin", "testadmin")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(100))
+                .andExpect(jsonPath("$.content[0].locationName").value(location.getName()));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void searchSlicesNeedOneStatementEach() throws Exception {
+        Set<String> seen = new HashSet<>();
+        String cursor = null;
+        do {
+            statistics.setStatisticsEnabled(true);
+            statistics.clear();
+
+            var request = get("/api/v1/admin/reservations/search")
+                    .param("locationId", location.getId().toString())
+                    .param("size", "50")
+                    .header(HttpHeaders.AUTHORIZATION, basic("admin", "testadmin"));
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            JsonNode slice = jsonMapper.readTree(mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString());
+
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+            slice.get("content").forEach(reservation -> assertThat(seen.add(reservation.get("id").asString())).isTrue());
+            cursor = slice.get("hasNext").asBoolean() ? slice.get("nextCursor").asString() : null;
+        } while (cursor != null);
+
+        assertThat(seen).hasSize(RESERVATIONS);
+    }
+
+    @Test
+    void searchTotalIsCountedOnRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/reservations/search")
+                        .param("locationId", location.getId().toString())
+                        .param("withTotal", "true")
+                        .header(HttpHeaders.AUTHORIZATION, basic("admin", "testadmin")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(RESERVATIONS))
+                .andExpect(jsonPath("$.totalExact").value(true));
+    }
+
+    @Test
+    void invalidCursorIsRejected() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/reservations/search")
+                        .param("cursor", "kaputt")
+                        .header(HttpHeaders.AUTHORIZATION, basic("admin", "testadmin")))
+                .andExpect(status().is(422))
+                .andExpect(jsonPath("$.ruleCode").value("INVALID_CURSOR"));
+    }
+
+    private static String basic(String username, String password) {
+        return "Basic " + Base64.getEncoder()
+                .encodeToString((username + ":" + password).getBytes(StandardCharsets.UTF_8));
+    }
+}
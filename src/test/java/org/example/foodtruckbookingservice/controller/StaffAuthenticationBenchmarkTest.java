@@ -0,0 +1,83 @@
+package org.example.foodtruckbookingservice.controller;
+
+import org.example.foodtruckbookingservice.entity.Location;
+import org.example.foodtruckbookingservice.repository.LocationRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Compares the per-request cost of Basic Auth (BCrypt on every request) with the login token
+ * (HMAC check) on a staff endpoint. Both runs hit the same endpoint, so the difference is the
+ * authentication. Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@AutoConfigureMockMvc
+class StaffAuthenticationBenchmarkTest {
+
+    private static final int REQUESTS = 200;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    @Test
+    void compareBasicAuthWithToken() throws Exception {
+        UUID locationId = locationRepository.save(Location.builder()
+                .name("Auth Benchmark " + UUID.randomUUID())
+                .address("Teststraße 1")
+                .build()).getId();
+
+        String basic = "Basic " + Base64.getEncoder()
+                .encodeToString("wagen1:testpass1".getBytes(StandardCharsets.UTF_8));
+        String loginResponse = mockMvc.perform(post("/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"wagen1\",\"password\":\"testpass1\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String bearer = "Bearer " + jsonMapper.readTree(loginResponse).get("token").asString();
+
+        // Warm-up
+        run(locationId, basic, REQUESTS / 10);
+        run(locationId, bearer, REQUESTS / 10);
+
+        double before = run(locationId, basic, REQUESTS);
+        double after = run(locationId, bearer, REQUESTS);
+
+        System.out.printf("GET /api/v1/staff/inventory, %d requests: Basic %.2f ms/request, token %.2f ms/request (x%.1f)%n",
+                REQUESTS, before, after, before / after);
+        assertThat(after).isLessThan(before);
+    }
+
+    private double run(UUID locationId, String authorization, int requests) throws Exception {
+        long began = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            mockMvc.perform(get("/api/v1/staff/inventory")
+                            .param("locationId", locationId.toString())
+                            .header(HttpHeaders.AUTHORIZATION, authorization))
+                    .andExpect(status().isOk());
+        }
+        return (System.nanoTime() - began) / 1e6 / requests;
+    }
+}
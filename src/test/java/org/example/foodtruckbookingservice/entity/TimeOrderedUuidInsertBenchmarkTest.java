@@ -0,0 +1,111 @@
+package org.example.foodtruckbookingservice.entity;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Inserts reservations with random (version 4) and time-ordered (version 7) primary keys and
+ * reports insert throughput and, on PostgreSQL, the size of the primary key index.
+ *
+ * <p>Runs against an in-memory H2 by default. For meaningful index sizes run it against a
+ * PostgreSQL scratch database, e.g.
+ * {@code mvn test -Pbenchmark -Dtest=TimeOrderedUuidInsertBenchmarkTest
+ * -Dbenchmark.jdbc.url=jdbc:postgresql://localhost:5432/bench -Dbenchmark.jdbc.user=postgres
+ * -Dbenchmark.jdbc.password=postgres}. The benchmark only creates and drops its own table.
+ */
+@Tag("benchmark")
+class TimeOrderedUuidInsertBenchmarkTest {
+
+    private static final String URL = System.getProperty(
+            "benchmark.jdbc.url", "jdbc:h2:mem:uuid-benchmark;MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+    private static final String USER = System.getProperty("benchmark.jdbc.user", "sa");
+    private static final String PASSWORD = System.getProperty("benchmark.jdbc.password", "");
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 1_000_000);
+    private static final int BATCH_SIZE = 1_000;
+    private static final String TABLE = "uuid_benchmark_reservation";
+
+    @Test
+    void compareRandomWithTimeOrderedKeys() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL, USER, PASSWORD)) {
+            connection.setAutoCommit(false);
+            boolean postgres = connection.getMetaData().getDatabaseProductName().equals("PostgreSQL");
+
+            Result before = run(connection, postgres, UUID::randomUUID);
+            Result after = run(connection, postgres, TimeOrderedUuidGenerator::next);
+
+            System.out.printf("%d inserts: random UUID %.0f rows/s, pk index %s; time-ordered UUID %.0f rows/s, pk index %s%n",
+                    ROWS, before.rowsPerSecond(), size(before.indexBytes()),
+                    after.rowsPerSecond(), size(after.indexBytes()));
+            if (postgres) {
+                assertThat(after.indexBytes()).isLessThan(before.indexBytes());
+            }
+        }
+    }
+
+    private Result run(Connection connection, boolean postgres, Supplier<UUID> ids) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+            statement.execute("CREATE TABLE " + TABLE + " (" +
+                    "id UUID PRIMARY KEY, location_id UUID NOT NULL, customer_name VARCHAR(100) NOT NULL, " +
+                    "chicken_count INT NOT NULL, reservation_date DATE NOT NULL, created_at TIMESTAMP NOT NULL)");
+            statement.execute("CREATE INDEX " + TABLE + "_created_at ON " + TABLE + " (created_at)");
+            connection.commit();
+        }
+
+        UUID locationId = UUID.randomUUID();
+        long began = System.nanoTime();
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO " + TABLE +
+                " (id, location_id, customer_name, chicken_count, reservation_date, created_at) " +
+                "VALUES (?, ?, ?, ?, CURRENT_DATE, ?)")) {
+            for (int i = 1; i <= ROWS; i++) {
+                insert.setObject(1, ids.get());
+                insert.setObject(2, locationId);
+                insert.setString(3, "Kunde " + i);
+                insert.setInt(4, 1 + i % 5);
+                insert.setTimestamp(5, Timestamp.valueOf(LocalDateTime.now()));
+                insert.addBatch();
+                if (i % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+        double rowsPerSecond = ROWS / ((System.nanoTime() - began) / 1e9);
+
+        long indexBytes = -1;
+        if (postgres) {
+            try (Statement statement = connection.createStatement();
+                 ResultSet size = statement.executeQuery("SELECT pg_relation_size('" + TABLE + "_pkey')")) {
+                size.next();
+                indexBytes = size.getLong(1);
+            }
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE " + TABLE);
+            connection.commit();
+        }
+        return new Result(rowsPerSecond, indexBytes);
+    }
+
+    private static String size(long bytes) {
+        return bytes < 0 ? "n/a (PostgreSQL only)" : String.format("%.1f MB", bytes / 1024.0 / 1024.0);
+    }
+
+    private record Result(double rowsPerSecond, long indexBytes) {
+    }
+}
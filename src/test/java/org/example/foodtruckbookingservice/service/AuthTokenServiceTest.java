@@ -0,0 +1,87 @@
+package org.example.foodtruckbookingservice.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AuthTokenServiceTest {
+
+    private static final String SECRET = "secret-of-at-least-thirty-two-bytes";
+    private static final Instant NOW = Instant.parse("2026-10-17T10:00:00Z");
+    private static final Authentication STAFF = UsernamePasswordAuthenticationToken.authenticated(
+            "wagen1", null, AuthorityUtils.createAuthorityList("ROLE_STAFF"));
+
+    private AuthTokenService service(String secret, Instant now) {
+        return new AuthTokenService(secret, Duration.ofHours(1), Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    @Test
+    void issuedTokenIsAccepted() {
+        AuthTokenService.IssuedToken token = service(SECRET, NOW).issue(STAFF);
+
+        assertThat(token.expiresAt()).isEqualTo(NOW.plus(Duration.ofHours(1)));
+        assertThat(service(SECRET, NOW).verify(token.token())).hasValueSatisfying(authentication -> {
+            assertThat(authentication.getName()).isEqualTo("wagen1");
+            assertThat(AuthorityUtils.authorityListToSet(authentication.getAuthorities()))
+                    .containsExactly("ROLE_STAFF");
+            assertThat(authentication.isAuthenticated()).isTrue();
+        });
+    }
+
+    @Test
+    void expiredTokenIsRejected() {
+        String token = service(SECRET, NOW).issue(STAFF).token();
+
+        assertThat(service(SECRET, NOW.plus(Duration.ofHours(1))).verify(token)).isEmpty();
+    }
+
+    @Test
+    void tokenOfAnotherSecretIsRejected() {
+        String token = service("other-secret-of-at-least-thirty-two-bytes", NOW).issue(STAFF).token();
+
+        assertThat(service(SECRET, NOW).verify(token)).isEmpty();
+    }
+
+    @Test
+    void changedPayloadIsRejected() {
+        AuthTokenService service = service(SECRET, NOW);
+        String token = service.issue(STAFF).token();
+        String signature = token.substring(token.indexOf('.'));
+        String forged = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("wagen1:ROLE_ADMIN:9999999999".getBytes()) + signature;
+
+        assertThat(service.verify(forged)).isEmpty();
+    }
+
+    @Test
+    void malformedTokensAreRejected() {
+        AuthTokenService service = service(SECRET, NOW);
+
+        assertThat(service.verify("")).isEmpty();
+        assertThat(service.verify("no-dot")).isEmpty();
+        assertThat(service.verify(".signature")).isEmpty();
+        assertThat(service.verify("not base64!.also not")).isEmpty();
+    }
+
+    @Test
+    void secretIsRequired() {
+        assertThatThrownBy(() -> service(" ", NOW))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shortSecretIsRejected() {
+        assertThatThrownBy(() -> service("x".repeat(AuthTokenService.MIN_SECRET_LENGTH - 1), NOW))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,91 @@
+package org.example.foodtruckbookingservice.service;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.security.SecureRandom;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the previous confirmation code generation (shared SecureRandom + existence probe per
+ * attempt) with {@link ConfirmationCodeGenerator} under 64 concurrent threads.
+ *
+ * <p>The previous approach is measured against an in-memory set instead of
+ * {@code existsByConfirmationCode}, so its numbers do not even include the SELECT round trip it
+ * needs per code. Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class ConfirmationCodeGeneratorBenchmarkTest {
+
+    private static final int THREADS = 64;
+    private static final int CODES_PER_THREAD = 20_000;
+    private static final String CODE_CHARACTERS = ConfirmationCodeGenerator.CODE_CHARACTERS;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    @Test
+    void compareWithRandomProbing() throws InterruptedException {
+        Set<String> existing = ConcurrentHashMap.newKeySet();
+        Supplier<String> randomProbing = () -> {
+            String code;
+            do {
+                code = randomCode();
+            } while (!existing.add(code));
+            return code;
+        };
+
+        AtomicLong blocks = new AtomicLong();
+        ConfirmationCodeGenerator generator = new ConfirmationCodeGenerator(
+                () -> blocks.getAndIncrement() * ConfirmationCodeGenerator.BLOCK_SIZE, "benchmark-secret");
+
+        // Warm-up
+        run(randomProbing, CODES_PER_THREAD / 10);
+        run(generator::nextCode, CODES_PER_THREAD / 10);
+        existing.clear();
+
+        double before = run(randomProbing, CODES_PER_THREAD);
+        double after = run(generator::nextCode, CODES_PER_THREAD);
+
+        System.out.printf("Confirmation codes, %d threads: random+probe %.0f codes/s, permutation %.0f codes/s (x%.1f)%n",
+                THREADS, before, after, after / before);
+        assertThat(after).isPositive();
+    }
+
+    private static double run(Supplier<String> codes, int perThread) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            for (int t = 0; t < THREADS; t++) {
+                executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        codes.get();
+                    }
+                    return null;
+                });
+            }
+            long began = System.nanoTime();
+            start.countDown();
+            executor.shutdown();
+            assertThat(executor.awaitTermination(5, TimeUnit.MINUTES)).isTrue();
+            double seconds = (System.nanoTime() - began) / 1e9;
+            return THREADS * (double) perThread / seconds;
+        }
+    }
+
+    private static String randomCode() {
+        StringBuilder sb = new StringBuilder(ConfirmationCodeGenerator.CODE_LENGTH);
+        for (int i = 0; i < ConfirmationCodeGenerator.CODE_LENGTH; i++) {
+            sb.append(CODE_CHARACTERS.charAt(RANDOM.nextInt(CODE_CHARACTERS.length())));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,76 @@
+package org.example.foodtruckbookingservice.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConfirmationCodeGeneratorTest {
+
+    private final AtomicLong blocks = new AtomicLong();
+
+    private ConfirmationCodeGenerator generator(String secret) {
+        return new ConfirmationCodeGenerator(
+                () -> blocks.getAndIncrement() * ConfirmationCodeGenerator.BLOCK_SIZE, secret);
+    }
+
+    @Test
+    void codesUseTheCodeAlphabet() {
+        ConfirmationCodeGenerator generator = generator("secret");
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(generator.nextCode())
+                    .hasSize(ConfirmationCodeGenerator.CODE_LENGTH)
+                    .matches("[" + ConfirmationCodeGenerator.CODE_CHARACTERS + "]+");
+        }
+    }
+
+    @Test
+    void codesAreUniqueAcrossThreads() throws InterruptedException {
+        ConfirmationCodeGenerator generator = generator("secret");
+        Set<String> codes = ConcurrentHashMap.newKeySet();
+        int threads = 16;
+        int perThread = 10_000;
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        codes.add(generator.nextCode());
+                    }
+                });
+            }
+            executor.shutdown();
+            assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+        }
+
+        assertThat(codes).hasSize(threads * perThread);
+    }
+
+    @Test
+    void sequentialNumbersDoNotGiveSequentialCodes() {
+        ConfirmationCodeGenerator generator = generator("secret");
+
+        assertThat(generator.permute(1)).isNotEqualTo(generator.permute(0) + 1);
+        assertThat(ConfirmationCodeGenerator.encode(generator.permute(0)))
+                .isNotEqualTo(ConfirmationCodeGenerator.encode(0));
+    }
+
+    @Test
+    void permutationDependsOnSecret() {
+        assertThat(generator("secret-a").permute(42)).isNotEqualTo(generator("secret-b").permute(42));
+    }
+
+    @Test
+    void emptySecretIsRejected() {
+        assertThatThrownBy(() -> generator(" "))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,111 @@
+package org.example.foodtruckbookingservice.service;
+
+import org.example.foodtruckbookingservice.entity.DailyInventory;
+import org.example.foodtruckbookingservice.entity.Location;
+import org.example.foodtruckbookingservice.entity.Reservation;
+import org.example.foodtruckbookingservice.entity.ReservationStatus;
+import org.example.foodtruckbookingservice.repository.DailyInventoryRepository;
+import org.example.foodtruckbookingservice.repository.LocationRepository;
+import org.example.foodtruckbookingservice.repository.ReservationRepository;
+import org.example.foodtruckbookingservice.repository.ReservedChickensDrift;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@RecordApplicationEvents
+class InventoryReconciliationJobTest {
+
+    @Autowired
+    private InventoryReconciliationJob reconciliationJob;
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    @Autowired
+    private DailyInventoryRepository inventoryRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    private Location location;
+    private LocalDate day;
+
+    @BeforeEach
+    void setUp() {
+        // In the future, so the no-show sweep of other tests leaves these reservations alone
+        day = LocalDate.now().plusDays(30);
+        location = locationRepository.save(Location.builder()
+                .name("Reconcile " + UUID.randomUUID())
+                .address("Teststraße 1")
+                .build());
+        reservation(2, ReservationStatus.CONFIRMED);
+        reservation(3, ReservationStatus.CONFIRMED);
+        reservation(4, ReservationStatus.CANCELLED);
+    }
+
+    @Test
+    void detectsAndCorrectsDrift() {
+        inventory(9);
+
+        assertThat(reconciliationJob.reconcile(day))
+                .filteredOn(drift -> drift.locationId().equals(location.getId()))
+                .singleElement()
+                .extracting(ReservedChickensDrift::counter, ReservedChickensDrift::derived)
+                .containsExactly(9, 5L);
+        assertThat(reservedChickens()).isEqualTo(5);
+        assertThat(events.stream(InventoryChangedEvent.class))
+                .contains(new InventoryChangedEvent(location.getId(), day));
+
+        assertThat(reconciliationJob.reconcile(day))
+                .noneMatch(drift -> drift.locationId().equals(location.getId()));
+    }
+
+    @Test
+    void leavesMatchingCounterAlone() {
+        inventory(5);
+
+        assertThat(reconciliationJob.reconcile(day))
+                .noneMatch(drift -> drift.locationId().equals(location.getId()));
+        assertThat(reservedChickens()).isEqualTo(5);
+        assertThat(events.stream(InventoryChangedEvent.class))
+                .doesNotContain(new InventoryChangedEvent(location.getId(), day));
+    }
+
+    private void inventory(int reservedChickens) {
+        inventoryRepository.save(DailyInventory.builder()
+                .location(location)
+                .date(day)
+                .totalChickens(20)
+                .reservedChickens(reservedChickens)
+                .build());
+    }
+
+    private int reservedChickens() {
+        return inventoryRepository.findByLocationIdAndDate(location.getId(), day).orElseThrow()
+                .getReservedChickens();
+    }
+
+    private void reservation(int chickens, ReservationStatus status) {
+        reservationRepository.save(Reservation.builder()
+                .location(location)
+                .confirmationCode(UUID.randomUUID().toString().substring(0, 8))
+                .customerName("Test")
+                .chickenCount(chickens)
+                .friesCount(0)
+                .reservationDate(day)
+                .status(status)
+                .build());
+    }
+}
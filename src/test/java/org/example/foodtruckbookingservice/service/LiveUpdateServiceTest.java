@@ -0,0 +1,76 @@
+package org.example.foodtruckbookingservice.service;
+
+import org.example.foodtruckbookingservice.entity.DailyInventory;
+import org.example.foodtruckbookingservice.entity.Location;
+import org.example.foodtruckbookingservice.entity.LocationSchedule;
+import org.example.foodtruckbookingservice.repository.DailyInventoryRepository;
+import org.example.foodtruckbookingservice.repository.LocationRepository;
+import org.example.foodtruckbookingservice.repository.LocationScheduleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class LiveUpdateServiceTest {
+
+    @Autowired
+    private LiveUpdateService liveUpdateService;
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    @Autowired
+    private LocationScheduleRepository scheduleRepository;
+
+    @Autowired
+    private DailyInventoryRepository inventoryRepository;
+
+    @Autowired
+    private TimetableService timetableService;
+
+    private Location location;
+
+    @BeforeEach
+    void setUp() {
+        LocalDate today = LocalDate.now();
+        location = locationRepository.save(Location.builder()
+                .name("Live " + UUID.randomUUID())
+                .address("Teststraße 1")
+                .build());
+        scheduleRepository.save(LocationSchedule.builder()
+                .location(location)
+                .dayOfWeek(today.getDayOfWeek().getValue())
+                .openingTime(LocalTime.MIN)
+                .closingTime(LocalTime.MAX)
+                .dailyCapacity(50)
+                .build());
+        inventoryRepository.save(DailyInventory.builder()
+                .location(location)
+                .date(today)
+                .totalChickens(50)
+                .build());
+        timetableService.refresh();
+    }
+
+    @Test
+    void deadEmitterIsRemovedOnHeartbeat() {
+        SseEmitter alive = liveUpdateService.subscribeAvailability(location.getId());
+        SseEmitter dead = liveUpdateService.subscribeAvailability(location.getId());
+        assertThat(liveUpdateService.availabilityWatchers(location.getId())).isEqualTo(2);
+
+        // Not attached to a request here, so no container callback removes it - sending fails
+        dead.complete();
+        liveUpdateService.heartbeat();
+
+        assertThat(liveUpdateService.availabilityWatchers(location.getId())).isEqualTo(1);
+        alive.complete();
+    }
+}
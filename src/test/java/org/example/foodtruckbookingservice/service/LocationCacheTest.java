@@ -0,0 +1,85 @@
+package org.example.foodtruckbookingservice.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.foodtruckbookingservice.dto.request.CreateLocationRequest;
+import org.example.foodtruckbookingservice.dto.response.LocationResponse;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class LocationCacheTest {
+
+    @Autowired
+    private LocationService locationService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private LocationResponse location;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        location = locationService.createLocation(CreateLocationRequest.builder()
+                .name("Cache " + UUID.randomUUID())
+                .address("Teststraße 1")
+                .build());
+    }
+
+    @Test
+    void locationIsReadFromCache() {
+        locationService.getLocationById(location.getId());
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        LocationResponse cached = locationService.getLocationById(location.getId());
+
+        assertThat(cached.getName()).isEqualTo(location.getName());
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getDomainDataRegionStatistics("location").getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void updateReplacesCachedLocation() {
+        locationService.getLocationById(location.getId());
+
+        locationService.updateLocation(location.getId(), CreateLocationRequest.builder()
+                .name(location.getName() + " neu")
+                .address("Teststraße 2")
+                .build());
+
+        assertThat(locationService.getLocationById(location.getId()).getName())
+                .isEqualTo(location.getName() + " neu");
+    }
+
+    @Test
+    void activeLocationsAreReadFromQueryCacheUntilALocationChanges() {
+        locationService.getAllActiveLocations();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        assertThat(locationService.getAllActiveLocations())
+                .extracting(LocationResponse::getId)
+                .contains(location.getId());
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        locationService.updateLocation(location.getId(), CreateLocationRequest.builder()
+                .name(location.getName())
+                .address(location.getAddress())
+                .active(false)
+                .build());
+
+        assertThat(locationService.getAllActiveLocations())
+                .extracting(LocationResponse::getId)
+                .doesNotContain(location.getId());
+    }
+}
@@ -0,0 +1,146 @@
+package org.example.foodtruckbookingservice.service;
+
+import org.example.foodtruckbookingservice.entity.DailyInventory;
+import org.example.foodtruckbookingservice.entity.JobLease;
+import org.example.foodtruckbookingservice.entity.Location;
+import org.example.foodtruckbookingservice.entity.LocationSchedule;
+import org.example.foodtruckbookingservice.entity.Reservation;
+import org.example.foodtruckbookingservice.entity.ReservationStatus;
+import org.example.foodtruckbookingservice.repository.DailyInventoryRepository;
+import org.example.foodtruckbookingservice.repository.JobLeaseRepository;
+import org.example.foodtruckbookingservice.repository.LocationRepository;
+import org.example.foodtruckbookingservice.repository.LocationScheduleRepository;
+import org.example.foodtruckbookingservice.repository.ReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@RecordApplicationEvents
+class NoShowSweepJobTest {
+
+    private static final LocalTime CLOSING = LocalTime.of(18, 0);
+
+    @Autowired
+    private NoShowSweepJob noShowSweepJob;
+
+    @Autowired
+    private JobLeaseService jobLeaseService;
+
+    @Autowired
+    private JobLeaseRepository jobLeaseRepository;
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    @Autowired
+    private LocationScheduleRepository scheduleRepository;
+
+    @Autowired
+    private DailyInventoryRepository inventoryRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private TimetableService timetableService;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    private Location location;
+    private LocalDate day;
+
+    @BeforeEach
+    void setUp() {
+        day = LocalDate.now().minusDays(7);
+        location = locationRepository.save(Location.builder()
+                .name("Sweep " + UUID.randomUUID())
+                .address("Teststraße 1")
+                .build());
+        scheduleRepository.save(LocationSchedule.builder()
+                .location(location)
+                .dayOfWeek(day.getDayOfWeek().getValue())
+                .openingTime(LocalTime.of(11, 0))
+                .closingTime(CLOSING)
+                .dailyCapacity(50)
+                .build());
+        inventoryRepository.save(DailyInventory.builder()
+                .location(location)
+                .date(day)
+                .totalChickens(20)
+                .reservedChickens(5)
+                .build());
+        reservation(2, ReservationStatus.CONFIRMED);
+        reservation(3, ReservationStatus.CONFIRMED);
+        reservation(4, ReservationStatus.COMPLETED);
+        timetableService.refresh();
+    }
+
+    @Test
+    void sweepsConfirmedReservationsAfterClosingAndGracePeriod() {
+        assertThat(noShowSweepJob.sweep(day.atTime(CLOSING).plusMinutes(30))).isZero();
+
+        noShowSweepJob.sweep(day.atTime(CLOSING).plusHours(2));
+
+        assertThat(reservationRepository.countByLocationIdAndReservationDateAndStatus(
+                location.getId(), day, ReservationStatus.NO_SHOW)).isEqualTo(2);
+        assertThat(reservationRepository.countByLocationIdAndReservationDateAndStatus(
+                location.getId(), day, ReservationStatus.COMPLETED)).isEqualTo(1);
+        assertThat(inventoryRepository.findByLocationIdAndDate(location.getId(), day).orElseThrow()
+                .getReservedChickens()).isZero();
+        assertThat(events.stream(ReservationChangedEvent.class)
+                .map(event -> event.reservation().getStatus()))
+                .containsExactly(ReservationStatus.NO_SHOW, ReservationStatus.NO_SHOW);
+    }
+
+    @Test
+    void releasesExactlyTheSweptChickens() {
+        // Two chickens held by something else than the swept reservations must stay reserved
+        assertThat(inventoryService.claimChickens(location.getId(), day, 2)).isTrue();
+
+        noShowSweepJob.sweep(day.atTime(CLOSING).plusHours(2));
+
+        assertThat(inventoryRepository.findByLocationIdAndDate(location.getId(), day).orElseThrow()
+                .getReservedChickens()).isEqualTo(2);
+    }
+
+    @Test
+    void leaseIsHeldByOneNode() {
+        String job = "test-" + UUID.randomUUID();
+        assertThat(jobLeaseService.tryAcquire(job, Duration.ofMinutes(1))).isTrue();
+        assertThat(jobLeaseService.tryAcquire(job, Duration.ofMinutes(1))).isTrue();
+
+        jobLeaseRepository.save(new JobLease(job, "other-node", LocalDateTime.now().plusMinutes(1)));
+        assertThat(jobLeaseService.tryAcquire(job, Duration.ofMinutes(1))).isFalse();
+
+        jobLeaseRepository.save(new JobLease(job, "other-node", LocalDateTime.now().minusSeconds(1)));
+        assertThat(jobLeaseService.tryAcquire(job, Duration.ofMinutes(1))).isTrue();
+    }
+
+    private void reservation(int chickens, ReservationStatus status) {
+        reservationRepository.save(Reservation.builder()
+                .location(location)
+                .confirmationCode(UUID.randomUUID().toString().substring(0, 8))
+                .customerName("Test")
+                .chickenCount(chickens)
+                .friesCount(0)
+                .reservationDate(day)
+                .status(status)
+                .build());
+    }
+}
@@ -0,0 +1,177 @@
+package org.example.foodtruckbookingservice.service;
+
+import org.example.foodtruckbookingservice.dto.request.CreateReservationRequest;
+import org.example.foodtruckbookingservice.dto.response.ReservationResponse;
+import org.example.foodtruckbookingservice.entity.DailyInventory;
+import org.example.foodtruckbookingservice.entity.Location;
+import org.example.foodtruckbookingservice.entity.LocationSchedule;
+import org.example.foodtruckbookingservice.exception.CapacityExceededException;
+import org.example.foodtruckbookingservice.exception.ServiceUnavailableException;
+import org.example.foodtruckbookingservice.repository.DailyInventoryRepository;
+import org.example.foodtruckbookingservice.repository.LocationRepository;
+import org.example.foodtruckbookingservice.repository.LocationScheduleRepository;
+import org.example.foodtruckbookingservice.repository.ReservationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Group commit against the real {@link ReservationService}. Bookings are submitted a few
+ * milliseconds apart within a long batch window, so they end up in one batch in that order.
+ */
+@SpringBootTest
+class ReservationAdmissionServiceTest {
+
+    private static final Duration BATCH_WINDOW = Duration.ofMillis(500);
+    private static final Duration ARRIVAL_GAP = Duration.ofMillis(50);
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private TimetableService timetableService;
+
+    @Autowired
+    private ReservationMetrics reservationMetrics;
+
+    @Autowired
+    private SoldOutTracker soldOutTracker;
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    @Autowired
+    private LocationScheduleRepository scheduleRepository;
+
+    @Autowired
+    private DailyInventoryRepository inventoryRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    private final ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor();
+    private final List<ReservationAdmissionService> services = new ArrayList<>();
+    private Location location;
+
+    @BeforeEach
+    void setUp() {
+        LocalDate today = LocalDate.now();
+        location = locationRepository.save(Location.builder()
+                .name("Admission " + UUID.randomUUID())
+                .address("Teststraße 1")
+                .build());
+        scheduleRepository.save(LocationSchedule.builder()
+                .location(location)
+                .dayOfWeek(today.getDayOfWeek().getValue())
+                .openingTime(LocalTime.MIN)
+                .closingTime(LocalTime.MAX)
+                .dailyCapacity(50)
+                .build());
+        inventoryRepository.save(DailyInventory.builder()
+                .location(location)
+                .date(today)
+                .totalChickens(5)
+                .reservedChickens(0)
+                .build());
+        timetableService.refresh();
+    }
+
+    @AfterEach
+    void tearDown() {
+        services.forEach(ReservationAdmissionService::shutdown);
+        callers.shutdownNow();
+    }
+
+    @Test
+    void batchIsDecidedInArrivalOrder() throws Exception {
+        ReservationAdmissionService admission = admission(Duration.ofSeconds(10));
+
+        List<CompletableFuture<ReservationResponse>> results = submitInOrder(admission,
+                request("Erster", 3), request("Zweiter", 3), request("Dritter", 2));
+
+        assertThat(results.get(0).join().getCustomerName()).isEqualTo("Erster");
+        assertThatThrownBy(results.get(1)::join).hasCauseInstanceOf(CapacityExceededException.class);
+        assertThat(results.get(2).join().getCustomerName()).isEqualTo("Dritter");
+        assertThat(reservedChickens()).isEqualTo(5);
+        assertThat(reservationCount()).isEqualTo(2);
+    }
+
+    @Test
+    void bookingAbandonedBeforeItsBatchIsNotCreated() throws Exception {
+        ReservationAdmissionService admission = admission(Duration.ofMillis(50));
+
+        assertThatThrownBy(() -> admission.submit(request("Ungeduldig", 2)))
+                .isInstanceOf(ServiceUnavailableException.class);
+
+        Thread.sleep(BATCH_WINDOW.multipliedBy(2).toMillis());
+        assertThat(reservedChickens()).isZero();
+        assertThat(reservationCount()).isZero();
+    }
+
+    @Test
+    void failedBatchIsRolledBackForAllBookings() throws Exception {
+        ReservationAdmissionService admission = admission(Duration.ofSeconds(10));
+
+        // Longer than the customer_name column, fails on insert after the chickens were claimed
+        List<CompletableFuture<ReservationResponse>> results = submitInOrder(admission,
+                request("Gültig", 2), request("x".repeat(201), 2));
+
+        results.forEach(result -> assertThatThrownBy(result::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(RuntimeException.class));
+        assertThat(reservedChickens()).isZero();
+        assertThat(reservationCount()).isZero();
+    }
+
+    private ReservationAdmissionService admission(Duration timeout) {
+        ReservationAdmissionService admission = new ReservationAdmissionService(
+                reservationService, timetableService, reservationMetrics, soldOutTracker,
+                true, BATCH_WINDOW, 50, 10, timeout);
+        services.add(admission);
+        return admission;
+    }
+
+    private List<CompletableFuture<ReservationResponse>> submitInOrder(
+            ReservationAdmissionService admission, CreateReservationRequest... requests) throws InterruptedException {
+        List<CompletableFuture<ReservationResponse>> results = new ArrayList<>();
+        for (CreateReservationRequest request : requests) {
+            results.add(CompletableFuture.supplyAsync(() -> admission.submit(request), callers));
+            Thread.sleep(ARRIVAL_GAP.toMillis());
+        }
+        return results;
+    }
+
+    private CreateReservationRequest request(String customerName, int chickens) {
+        return CreateReservationRequest.builder()
+                .locationId(location.getId())
+                .customerName(customerName)
+                .chickenCount(chickens)
+                .friesCount(0)
+                .build();
+    }
+
+    private int reservedChickens() {
+        return inventoryRepository.findByLocationIdAndDate(location.getId(), LocalDate.now()).orElseThrow()
+                .getReservedChickens();
+    }
+
+    private long reservationCount() {
+        return reservationRepository.countByLocationIdAndReservationDate(location.getId(), LocalDate.now());
+    }
+}
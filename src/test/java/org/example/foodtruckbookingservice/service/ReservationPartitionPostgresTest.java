@@ -0,0 +1,155 @@
+package org.example.foodtruckbookingservice.service;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the migrations up to V9 (partitioning) on existing reservations and the partition
+ * maintenance of {@link ReservationPartitionJob} against PostgreSQL, which H2 cannot emulate.
+ *
+ * <p>Needs a PostgreSQL scratch database, e.g.
+ * {@code mvn test -Ppostgres -Dpostgres.jdbc.url=jdbc:postgresql://localhost:5432/scratch
+ * -Dpostgres.jdbc.user=postgres -Dpostgres.jdbc.password=postgres}. The test works in its own
+ * schema and drops it afterwards.
+ */
+@Tag("postgres")
+class ReservationPartitionPostgresTest {
+
+    private static final String URL = System.getProperty(
+            "postgres.jdbc.url", "jdbc:postgresql://localhost:5432/postgres");
+    private static final String USER = System.getProperty("postgres.jdbc.user", "postgres");
+    private static final String PASSWORD = System.getProperty("postgres.jdbc.password", "postgres");
+
+    /** Location of V2 base data. */
+    private static final UUID LOCATION = UUID.fromString("a0000000-0000-0000-0000-000000000001");
+
+    private final LocalDate today = LocalDate.now();
+    private final LocalDate old = today.minusMonths(30);
+    private String schema;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        schema = "partition_test_" + Long.toHexString(System.nanoTime());
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                URL + (URL.contains("?") ? "&" : "?") + "currentSchema=" + schema, USER, PASSWORD);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        migrate(dataSource, "8");
+        insertReservation(old, "OLDCODE1");
+        insertReservation(today, "NEWCODE1");
+        migrate(dataSource, "9");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP SCHEMA " + schema + " CASCADE");
+    }
+
+    @Test
+    void migrationMovesReservationsIntoMonthlyPartitions() {
+        assertThat(partitionOf("OLDCODE1")).isEqualTo(partitionName(old));
+        assertThat(partitionOf("NEWCODE1")).isEqualTo(partitionName(today));
+        assertThat(partitions()).contains(partitionName(today.plusMonths(3)), "reservation_default");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM reservation_default", Long.class)).isZero();
+    }
+
+    @Test
+    void partitionedTableHasTheSearchAndLookupIndexes() {
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT indexname::text FROM pg_indexes WHERE schemaname = current_schema() " +
+                        "AND tablename = 'reservation'", String.class))
+                .containsExactlyInAnyOrder(
+                        "reservation_pkey",
+                        "uk_reservation_confirmation_code",
+                        "idx_reservation_location_date",
+                        "idx_reservation_created_at_id",
+                        "idx_reservation_location_created_at_id",
+                        "idx_reservation_status_created_at_id",
+                        "idx_reservation_date_created_at_id");
+    }
+
+    @Test
+    void createsUpcomingPartitionsOnce() {
+        ReservationPartitionJob job = job(ReservationPartitionJob.RetentionAction.NONE);
+
+        job.createPartitions(today.plusMonths(3));
+        job.createPartitions(today.plusMonths(3));
+
+        assertThat(partitions()).contains(partitionName(today.plusMonths(6)));
+        insertReservation(today.plusMonths(6), "LATECODE");
+        assertThat(partitionOf("LATECODE")).isEqualTo(partitionName(today.plusMonths(6)));
+    }
+
+    @Test
+    void detachedPartitionsKeepTheirData() {
+        List<String> retired = job(ReservationPartitionJob.RetentionAction.DETACH).retirePartitions(today);
+
+        assertThat(retired).contains(partitionName(old)).doesNotContain(partitionName(today));
+        assertThat(partitions()).doesNotContain(partitionName(old));
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM reservation", Long.class)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + partitionName(old), Long.class))
+                .isEqualTo(1);
+    }
+
+    @Test
+    void droppedPartitionsAreGone() {
+        List<String> retired = job(ReservationPartitionJob.RetentionAction.DROP).retirePartitions(today);
+
+        assertThat(retired).contains(partitionName(old));
+        assertThat(jdbcTemplate.queryForObject("SELECT to_regclass(?)::text", String.class, partitionName(old)))
+                .isNull();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM reservation", Long.class)).isEqualTo(1);
+    }
+
+    private void migrate(DriverManagerDataSource dataSource, String target) {
+        Flyway.configure()
+                .dataSource(dataSource)
+                .schemas(schema)
+                .locations("classpath:db/migration")
+                .target(target)
+                .load()
+                .migrate();
+    }
+
+    private ReservationPartitionJob job(ReservationPartitionJob.RetentionAction retentionAction) {
+        // The lease is only used by maintain(), which is not called here
+        return new ReservationPartitionJob(jdbcTemplate, null, 3, Period.ofMonths(24), retentionAction,
+                Duration.ofMinutes(10));
+    }
+
+    private void insertReservation(LocalDate date, String confirmationCode) {
+        jdbcTemplate.update("INSERT INTO reservation (id, location_id, customer_name, chicken_count, fries_count, " +
+                        "status, confirmation_code, reservation_date) VALUES (?, ?, 'Test', 2, 0, 'CONFIRMED', ?, ?)",
+                UUID.randomUUID(), LOCATION, confirmationCode, date);
+    }
+
+    private String partitionOf(String confirmationCode) {
+        return jdbcTemplate.queryForObject(
+                "SELECT tableoid::regclass::text FROM reservation WHERE confirmation_code = ?",
+                String.class, confirmationCode);
+    }
+
+    private List<String> partitions() {
+        return jdbcTemplate.queryForList(
+                "SELECT c.relname::text FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+                        "WHERE i.inhparent = 'reservation'::regclass", String.class);
+    }
+
+    private static String partitionName(LocalDate date) {
+        return String.format("reservation_y%04dm%02d", date.getYear(), date.getMonthValue());
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.foodtruckbookingservice.service;
+
+import org.example.foodtruckbookingservice.dto.request.CreateReservationRequest;
+import org.example.foodtruckbookingservice.dto.request.SetInventoryRequest;
+import org.example.foodtruckbookingservice.dto.response.ReservationResponse;
+import org.example.foodtruckbookingservice.entity.Location;
+import org.example.foodtruckbookingservice.entity.LocationSchedule;
+import org.example.foodtruckbookingservice.entity.ReservationStatus;
+import org.example.foodtruckbookingservice.exception.CapacityExceededException;
+import org.example.foodtruckbookingservice.repository.LocationRepository;
+import org.example.foodtruckbookingservice.repository.LocationScheduleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class ReservationServiceTest {
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private SoldOutTracker soldOutTracker;
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    @Autowired
+    private LocationScheduleRepository scheduleRepository;
+
+    @Autowired
+    private TimetableService timetableService;
+
+    private Location location;
+
+    @BeforeEach
+    void setUp() {
+        location = locationRepository.save(Location.builder()
+                .name("Booking " + UUID.randomUUID())
+                .address("Teststraße 1")
+                .build());
+        scheduleRepository.save(LocationSchedule.builder()
+                .location(location)
+                .dayOfWeek(LocalDate.now().getDayOfWeek().getValue())
+                .openingTime(LocalTime.MIN)
+                .closingTime(LocalTime.MAX)
+                .dailyCapacity(50)
+                .build());
+        timetableService.refresh();
+        setTotalChickens(10);
+    }
+
+    @Test
+    void friesOnlyOrderIsAcceptedAfterTotalIsLoweredBelowReserved() {
+        assertThat(book(6, 0).getStatus()).isEqualTo(ReservationStatus.CONFIRMED);
+        setTotalChickens(4);
+
+        assertThat(book(0, 2).getStatus()).isEqualTo(ReservationStatus.CONFIRMED);
+        assertThat(soldOutTracker.remaining(location.getId(), LocalDate.now())).isEmpty();
+
+        assertThatThrownBy(() -> book(1, 0)).isInstanceOf(CapacityExceededException.class);
+    }
+
+    private ReservationResponse book(int chickens, int fries) {
+        return reservationService.createReservation(CreateReservationRequest.builder()
+                .locationId(location.getId())
+                .customerName("Test")
+                .chickenCount(chickens)
+                .friesCount(fries)
+                .build());
+    }
+
+    private void setTotalChickens(int totalChickens) {
+        inventoryService.setInventory(SetInventoryRequest.builder()
+                .locationId(location.getId())
+                .totalChickens(totalChickens)
+                .build());
+    }
+}
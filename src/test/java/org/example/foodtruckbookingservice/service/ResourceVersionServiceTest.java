@@ -0,0 +1,89 @@
+package org.example.foodtruckbookingservice.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResourceVersionServiceTest {
+
+    private static final UUID LOCATION = UUID.randomUUID();
+    private static final LocalDate TODAY = LocalDate.now();
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-10-17T10:00:00Z"));
+    private ResourceVersionService service;
+
+    @BeforeEach
+    void setUp() {
+        // version() only reads an in-memory counter, the repositories are not used
+        service = new ResourceVersionService(new TimetableService(null, null), Duration.ofSeconds(5), clock);
+    }
+
+    @Test
+    void availabilityETagIsStableWithinValidity() {
+        String eTag = service.availabilityETag(LOCATION, TODAY);
+        clock.advance(Duration.ofSeconds(4));
+
+        assertThat(service.availabilityETag(LOCATION, TODAY)).isEqualTo(eTag);
+    }
+
+    @Test
+    void availabilityETagRollsOverAfterValidity() {
+        String eTag = service.availabilityETag(LOCATION, TODAY);
+        String todayETag = service.todayAvailabilityETag();
+        clock.advance(Duration.ofSeconds(5));
+
+        assertThat(service.availabilityETag(LOCATION, TODAY)).isNotEqualTo(eTag);
+        assertThat(service.todayAvailabilityETag()).isNotEqualTo(todayETag);
+    }
+
+    @Test
+    void committedChangeChangesETagsOfItsLocationOnly() {
+        UUID other = UUID.randomUUID();
+        String eTag = service.availabilityETag(LOCATION, TODAY);
+        String otherETag = service.availabilityETag(other, TODAY);
+        String todayETag = service.todayAvailabilityETag();
+
+        service.onInventoryChanged(new InventoryChangedEvent(LOCATION, TODAY));
+
+        assertThat(service.availabilityETag(LOCATION, TODAY)).isNotEqualTo(eTag);
+        assertThat(service.availabilityETag(other, TODAY)).isEqualTo(otherETag);
+        assertThat(service.todayAvailabilityETag()).isNotEqualTo(todayETag);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.foodtruckbookingservice.service;
+
+import org.example.foodtruckbookingservice.dto.response.ReservationResponse;
+import org.example.foodtruckbookingservice.entity.ReservationStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SoldOutTrackerTest {
+
+    private final SoldOutTracker tracker = new SoldOutTracker(Duration.ofMinutes(1));
+    private final UUID locationId = UUID.randomUUID();
+    private final LocalDate today = LocalDate.now();
+
+    @Test
+    void remainingIsUnknownUntilObserved() {
+        assertThat(tracker.remaining(locationId, today)).isEmpty();
+
+        tracker.observe(locationId, today, 0, tracker.generation());
+
+        assertThat(tracker.remaining(locationId, today)).hasValue(0);
+        assertThat(tracker.remaining(locationId, today.plusDays(1))).isEmpty();
+    }
+
+    @Test
+    void newBookingKeepsObservation() {
+        tracker.observe(locationId, today, 2, tracker.generation());
+
+        tracker.onReservationChanged(new ReservationChangedEvent(reservation(ReservationStatus.CONFIRMED)));
+
+        assertThat(tracker.remaining(locationId, today)).hasValue(2);
+    }
+
+    @Test
+    void cancellationAndInventoryChangeForgetObservation() {
+        tracker.observe(locationId, today, 0, tracker.generation());
+        tracker.onReservationChanged(new ReservationChangedEvent(reservation(ReservationStatus.CANCELLED)));
+        assertThat(tracker.remaining(locationId, today)).isEmpty();
+
+        tracker.observe(locationId, today, 0, tracker.generation());
+        tracker.onInventoryChanged(new InventoryChangedEvent(locationId, today));
+        assertThat(tracker.remaining(locationId, today)).isEmpty();
+
+        tracker.observe(locationId, today, 0, tracker.generation());
+        tracker.onTimetableChanged(new TimetableChangedEvent(locationId));
+        assertThat(tracker.remaining(locationId, today)).isEmpty();
+    }
+
+    @Test
+    void observationReadBeforeChangeIsDiscarded() {
+        long generation = tracker.generation();
+        tracker.onReservationChanged(new ReservationChangedEvent(reservation(ReservationStatus.CANCELLED)));
+
+        tracker.observe(locationId, today, 0, generation);
+
+        assertThat(tracker.remaining(locationId, today)).isEmpty();
+    }
+
+    @Test
+    void observationExpires() {
+        SoldOutTracker expiring = new SoldOutTracker(Duration.ZERO);
+        expiring.observe(locationId, today, 0, expiring.generation());
+
+        assertThat(expiring.remaining(locationId, today)).isEmpty();
+    }
+
+    private ReservationResponse reservation(ReservationStatus status) {
+        return ReservationResponse.builder()
+                .id(UUID.randomUUID())
+                .locationId(locationId)
+                .reservationDate(today)
+                .chickenCount(2)
+                .status(status)
+                .build();
+    }
+}
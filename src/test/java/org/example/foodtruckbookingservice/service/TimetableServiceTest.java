@@ -0,0 +1,50 @@
+package org.example.foodtruckbookingservice.service;
+
+import org.example.foodtruckbookingservice.entity.Location;
+import org.example.foodtruckbookingservice.repository.LocationRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class TimetableServiceTest {
+
+    @Autowired
+    private TimetableService timetableService;
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    void changeIncreasesVersionOnce() {
+        timetableService.refresh();
+        long before = timetableService.version();
+
+        Location location = locationRepository.save(Location.builder()
+                .name("Timetable " + UUID.randomUUID())
+                .address("Teststraße 1")
+                .build());
+        eventPublisher.publishEvent(new TimetableChangedEvent(location.getId()));
+
+        assertThat(timetableService.version()).isEqualTo(before + 1);
+        assertThat(timetableService.current().contains(location.getId())).isTrue();
+    }
+
+    @Test
+    void unchangedDataKeepsVersion() {
+        timetableService.refresh();
+        long before = timetableService.version();
+
+        timetableService.refresh();
+
+        assertThat(timetableService.version()).isEqualTo(before);
+    }
+}
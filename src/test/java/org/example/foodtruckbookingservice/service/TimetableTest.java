@@ -0,0 +1,158 @@
+package org.example.foodtruckbookingservice.service;
+
+import org.example.foodtruckbookingservice.entity.Location;
+import org.example.foodtruckbookingservice.entity.LocationSchedule;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimetableTest {
+
+    private static final int MONDAY = 1;
+    private static final int TUESDAY = 2;
+    private static final int SUNDAY = 7;
+
+    private static final LocalDate A_MONDAY = LocalDate.of(2026, 10, 12);
+    private static final LocalDate A_SUNDAY = LocalDate.of(2026, 10, 18);
+
+    private final Location raubling = location("Raubling", true);
+    private final Location traunreut = location("Traunreut", true);
+    private final Location closed = location("Geschlossen", false);
+
+    private final Timetable timetable = Timetable.of(
+            List.of(traunreut, raubling, closed),
+            List.of(
+                    schedule(traunreut, MONDAY, LocalTime.of(11, 0), LocalTime.of(19, 0), true),
+                    schedule(raubling, MONDAY, LocalTime.of(10, 0), LocalTime.of(14, 0), true),
+                    schedule(raubling, SUNDAY, LocalTime.of(12, 0), LocalTime.of(18, 0), true),
+                    schedule(traunreut, TUESDAY, LocalTime.of(11, 0), LocalTime.of(19, 0), false),
+                    schedule(closed, MONDAY, LocalTime.of(11, 0), LocalTime.of(19, 0), true)));
+
+    @Test
+    void openingHoursArePerWeekday() {
+        assertThat(timetable.openingHours(raubling.getId(), MONDAY))
+                .contains(new Timetable.OpeningHours(LocalTime.of(10, 0), LocalTime.of(14, 0)));
+        assertThat(timetable.openingHours(raubling.getId(), SUNDAY))
+                .contains(new Timetable.OpeningHours(LocalTime.of(12, 0), LocalTime.of(18, 0)));
+        assertThat(timetable.openingHours(raubling.getId(), TUESDAY)).isEmpty();
+    }
+
+    @Test
+    void inactiveSchedulesAreIgnored() {
+        assertThat(timetable.openingHours(traunreut.getId(), TUESDAY)).isEmpty();
+        assertThat(timetable.openOn(TUESDAY)).isEmpty();
+    }
+
+    @Test
+    void openLocationsAreActiveAndSortedByName() {
+        assertThat(timetable.openOn(MONDAY))
+                .extracting(Timetable.Entry::name)
+                .containsExactly("Raubling", "Traunreut");
+        assertThat(timetable.openOn(SUNDAY))
+                .extracting(Timetable.Entry::name)
+                .containsExactly("Raubling");
+    }
+
+    @Test
+    void inactiveLocationIsKnownWithItsHours() {
+        assertThat(timetable.contains(closed.getId())).isTrue();
+        assertThat(timetable.location(closed.getId())).hasValueSatisfying(entry ->
+                assertThat(entry.active()).isFalse());
+        assertThat(timetable.openingHours(closed.getId(), MONDAY)).isPresent();
+    }
+
+    @Test
+    void unknownLocationIsNotContained() {
+        UUID unknown = UUID.randomUUID();
+
+        assertThat(timetable.contains(unknown)).isFalse();
+        assertThat(timetable.location(unknown)).isEmpty();
+        assertThat(timetable.openingHours(unknown, MONDAY)).isEmpty();
+    }
+
+    @Test
+    void isOpenOnDaysWithActiveSchedule() {
+        assertThat(timetable.isOpenOn(raubling.getId(), A_MONDAY)).isTrue();
+        assertThat(timetable.isOpenOn(raubling.getId(), A_MONDAY.plusDays(1))).isFalse();
+        assertThat(timetable.isOpenOn(traunreut.getId(), A_MONDAY.plusDays(1))).isFalse();
+        assertThat(timetable.isOpenOn(closed.getId(), A_MONDAY)).isFalse();
+    }
+
+    @Test
+    void isOpenAtWithinOpeningHours() {
+        assertThat(timetable.isOpenAt(raubling.getId(), A_MONDAY.atTime(10, 0))).isTrue();
+        assertThat(timetable.isOpenAt(raubling.getId(), A_MONDAY.atTime(14, 0))).isTrue();
+        assertThat(timetable.isOpenAt(raubling.getId(), A_MONDAY.atTime(14, 1))).isFalse();
+        assertThat(timetable.isOpenAt(raubling.getId(), A_SUNDAY.atTime(10, 0))).isFalse();
+        assertThat(timetable.isOpenAt(closed.getId(), A_MONDAY.atTime(12, 0))).isFalse();
+    }
+
+    @Test
+    void nextOpeningIsTheNextStartAfterTheGivenTime() {
+        assertThat(timetable.nextOpening(raubling.getId(), A_MONDAY.atTime(9, 0)))
+                .contains(A_MONDAY.atTime(10, 0));
+        // Open at that time, so the next opening is the following one
+        assertThat(timetable.nextOpening(raubling.getId(), A_MONDAY.atTime(12, 0)))
+                .contains(A_SUNDAY.atTime(12, 0));
+        assertThat(timetable.nextOpening(raubling.getId(), A_SUNDAY.atTime(13, 0)))
+                .contains(A_SUNDAY.plusDays(1).atTime(10, 0));
+        assertThat(timetable.nextOpening(traunreut.getId(), A_MONDAY.atTime(11, 0)))
+                .contains(A_MONDAY.plusDays(7).atTime(11, 0));
+    }
+
+    @Test
+    void inactiveOrUnknownLocationHasNoNextOpening() {
+        assertThat(timetable.nextOpening(closed.getId(), A_MONDAY.atTime(9, 0))).isEmpty();
+        assertThat(timetable.nextOpening(UUID.randomUUID(), A_MONDAY.atTime(9, 0))).isEmpty();
+    }
+
+    @Test
+    void openingHoursIncludeOpeningAndClosingTime() {
+        Timetable.OpeningHours hours = new Timetable.OpeningHours(LocalTime.of(11, 0), LocalTime.of(19, 0));
+
+        assertThat(hours.contains(LocalTime.of(11, 0))).isTrue();
+        assertThat(hours.contains(LocalTime.of(19, 0))).isTrue();
+        assertThat(hours.contains(LocalTime.of(10, 59))).isFalse();
+        assertThat(hours.contains(LocalTime.of(19, 1))).isFalse();
+    }
+
+    @Test
+    void sameDataGivesEqualTimetables() {
+        Timetable rebuilt = Timetable.of(
+                List.of(raubling, traunreut, closed),
+                List.of(
+                        schedule(raubling, MONDAY, LocalTime.of(10, 0), LocalTime.of(14, 0), true),
+                        schedule(raubling, SUNDAY, LocalTime.of(12, 0), LocalTime.of(18, 0), true),
+                        schedule(traunreut, MONDAY, LocalTime.of(11, 0), LocalTime.of(19, 0), true),
+                        schedule(closed, MONDAY, LocalTime.of(11, 0), LocalTime.of(19, 0), true)));
+
+        assertThat(rebuilt).isEqualTo(timetable);
+        assertThat(Timetable.empty()).isNotEqualTo(timetable);
+    }
+
+    private static Location location(String name, boolean active) {
+        return Location.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .address("Adresse " + name)
+                .active(active)
+                .build();
+    }
+
+    private static LocationSchedule schedule(
+            Location location, int dayOfWeek, LocalTime opening, LocalTime closing, boolean active) {
+        return LocationSchedule.builder()
+                .location(location)
+                .dayOfWeek(dayOfWeek)
+                .openingTime(opening)
+                .closingTime(closing)
+                .dailyCapacity(50)
+                .active(active)
+                .build();
+    }
+}
@@ -0,0 +1,40 @@
+export const locations0 = ["Innenstadt", "Gewerbegebiet", "Bahnhof"];
+export const locations1 = ["Innenstadt", "Gewerbegebiet", "Bahnhof"];
+export const locations2 = ["Innenstadt", "Gewerbegebiet", "Bahnhof"];
+export const locations3 = ["Innenstadt", "Gewerbegebiet", "Bahnhof"];
+export const locations4 = ["Innenstadt", "Gewerbegebiet", "Bahnhof"];
+export const locations5 = ["Innenstadt", "Gewerbegebiet", "Bahnhof"];
+export const locations6 = ["Innenstadt", "Gewerbegebiet", "Bahnhof"];
+export const locations7 = ["Innenstadt", "Gewerbegebiet", "Bahnhof"];
+export const locations8 = ["Innenstadt", "Gewerbegebiet", "Bahnhof"];
+export const locations9 = ["Innenstadt", "Gewerbegebiet", "Bahnhof"];
+export const locations10 = ["Innenstadt", "Gewerbegebiet", "Bahnhof"];
+export const locations11 = ["Innenstadt", "Gewerbegebiet", "Bahnhof"];
+export const locations12 = ["Innenstadt", "Gewerbegebiet", "Bahnhof"];
+export const locations13 = ["Innenstadt", "Gewerbegebiet", "Bahnhof"];
+export const locations14 = ["Innenstadt", "Gewerbegebiet", "Bahnhof"];
+export const locations15 = ["Innenstadt", "Gewerbegebiet", "Bahnhof"];
+export const locations16 = ["Innenstadt", "Gewerbegebiet", "Bahnhof"];
+export const locations17 = ["Innenstadt", "Gewerbegebiet", "Bahnhof"];
+export const locations18 = ["Innenstadt", "Gewerbegebiet", "Bahnhof"];
+export const locations19 = ["Innenstadt", "Gewerbegebiet", "Bahnhof"];
+export const locations20 = ["Innenstadt", "Gewerbegebiet", "Bahnhof"];
+export const locations21 = ["Innenstadt", "Gewerbegebiet", "Bahnhof"];
+export const locations22 = ["Innenstadt", "Gewerbegebiet", "Bahnhof"];
+export const locations23 = ["Innenstadt", "Gewerbegebiet", "Bahnhof"];
+export const locations24 = ["Innenstadt", "Gewerbegebiet", "Bahnhof"];
+export const locations25 = ["Innenstadt", "Gewerbegebiet", "Bahnhof"];
+export const locations26 = ["Innenstadt", "Gewerbegebiet", "Bahnhof"];
+export const locations27 = ["Innenstadt", "Gewerbegebiet", "Bahnhof"];
+export const locations28 = ["Innenstadt", "Gewerbegebiet", "Bahnhof"];
+export const locations29 = ["Innenstadt", "Gewerbegebiet", "Bahnhof"];
+export const locations30 = ["Innenstadt", "Gewerbegebiet", "Bahnhof"];
+export const locations31 = ["Innenstadt", "Gewerbegebiet", "Bahnhof"];
+export const locations32 = ["Innenstadt", "Gewerbegebiet", "Bahnhof"];
+export const locations33 = ["Innenstadt", "Gewerbegebiet", "Bahnhof"];
+export const locations34 = ["Innenstadt", "Gewerbegebiet", "Bahnhof"];
+export const locations35 = ["Innenstadt", "Gewerbegebiet", "Bahnhof"];
+export const locations36 = ["Innenstadt", "Gewerbegebiet", "Bahnhof"];
+export const locations37 = ["Innenstadt", "Gewerbegebiet", "Bahnhof"];
+export const locations38 = ["Innenstadt", "Gewerbegebiet", "Bahnhof"];
+export const locations39 = ["Innenstadt", "Gewerbegebiet", "Bahnhof"];
@@ -0,0 +1,2 @@
+-- Objects not managed by Hibernate (ddl-auto=create-drop), see db/migration for the real schema
+CREATE SEQUENCE IF NOT EXISTS confirmation_code_seq START WITH 0 MINVALUE 0 INCREMENT BY 1000;